@@ -0,0 +1,66 @@
+package com.example.Application_Service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Value("${jobs.closure.pool-size:2}")
+    private int closurePoolSize;
+
+    @Value("${outbox.relay.parallelism:4}")
+    private int outboxParallelism;
+
+    /**
+     * Background jobs (counter reconciliation, flushes, relays) get their own small pool
+     * so a long-running job does not delay the others.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    /**
+     * One-off background work triggered by requests (rejecting the applications of a closed job).
+     * Kept apart from the scheduler so a large closure does not hold up periodic jobs.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor jobClosureExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(closurePoolSize);
+        executor.setMaxPoolSize(closurePoolSize);
+        executor.setThreadNamePrefix("job-closure-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * One thread per outbox lane, so every lane can drain concurrently
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(outboxParallelism);
+        executor.setMaxPoolSize(outboxParallelism);
+        executor.setQueueCapacity(outboxParallelism);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.Application_Service.controller;
 
+import com.example.Application_Service.dto.request.BulkStatusUpdateRequest;
 import com.example.Application_Service.dto.request.SubmitApplicationRequest;
 import com.example.Application_Service.dto.request.UpdateStatusRequest;
 import com.example.Application_Service.dto.response.ApplicationDetailsResponse;
 import com.example.Application_Service.dto.response.ApplicationResponse;
 import com.example.Application_Service.dto.response.ApplicationStatsResponse;
+import com.example.Application_Service.dto.response.BulkStatusUpdateResponse;
 import com.example.Application_Service.dto.response.PagedResponse;
+import com.example.Application_Service.exception.InvalidIdempotencyKeyException;
 import com.example.Application_Service.exception.UnauthorizedAccessException;
+import com.example.Application_Service.service.ApplicationExportService;
 import com.example.Application_Service.service.ApplicationService;
+import com.example.Application_Service.service.ApplicationStatusStream;
+import com.example.Application_Service.service.IdempotencyService;
 import com.example.Application_Service.service.JobService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -27,19 +39,25 @@ import java.util.Map;
 @Slf4j
 public class ApplicationController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final ApplicationService applicationService;
     private final JobService jobService;
+    private final ApplicationStatusStream applicationStatusStream;
+    private final ApplicationExportService applicationExportService;
 
     @PostMapping
     public ResponseEntity<ApplicationDetailsResponse> submitApplication(
         @Valid @RequestBody SubmitApplicationRequest request,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
         HttpServletRequest httpRequest) {
         
         String userId = extractUserId(httpRequest);
-        log.info("Received application submission request from user: {}");
+        validateIdempotencyKey(idempotencyKey);
+        log.info("Received application submission request from user: {}", userId);
         
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(applicationService.submitApplication(request, userId));
+        return submitted(applicationService.submitApplication(request, userId, idempotencyKey));
     }
     
     /**
@@ -60,13 +78,14 @@ public class ApplicationController {
     @PostMapping("/json")
     public ResponseEntity<ApplicationDetailsResponse> submitApplicationWithJson(
         @Valid @RequestBody SubmitApplicationRequest request,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
         HttpServletRequest httpRequest) {
         
         String userId = extractUserId(httpRequest);
+        validateIdempotencyKey(idempotencyKey);
         log.info("Received application submission (JSON with resume) from user: {}", userId);
         
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(applicationService.submitApplication(request, userId));
+        return submitted(applicationService.submitApplication(request, userId, idempotencyKey));
     }
     
     /**
@@ -82,9 +101,11 @@ public class ApplicationController {
     public ResponseEntity<ApplicationDetailsResponse> submitApplicationWithResume(
         @Valid @RequestPart("request") SubmitApplicationRequest request,
         @RequestPart(value = "resume", required = false) org.springframework.web.multipart.MultipartFile resume,
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
         HttpServletRequest httpRequest) {
         
         String userId = extractUserId(httpRequest);
+        validateIdempotencyKey(idempotencyKey);
         log.info("Received application submission with resume from user: {}", userId);
         
         // Handle resume file upload
@@ -96,8 +117,7 @@ public class ApplicationController {
             log.info("No resume file included in the request");
         }
         
-        return ResponseEntity.status(HttpStatus.CREATED)
-            .body(applicationService.submitApplication(request, userId));
+        return submitted(applicationService.submitApplication(request, userId, idempotencyKey));
     }
 
     @GetMapping
@@ -108,11 +128,17 @@ public class ApplicationController {
         @RequestParam(defaultValue = "20") int limit,
         @RequestParam(defaultValue = "createdAt") String sortBy,
         @RequestParam(defaultValue = "desc") String sortOrder,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal,
         HttpServletRequest httpRequest) {
         
         String userId = extractUserId(httpRequest);
         log.info("Fetching applications for user: {}, jobId: {}", userId, jobId);
         
+        // Presence of the cursor parameter (empty for the first page) switches to keyset pagination,
+        // which always orders by createdAt desc; page/sortBy/sortOrder are ignored in that mode
+        boolean cursorMode = cursor != null;
+        
         if (jobId != null) {
             // Employer viewing applications for their job
             // Verify employer owns this job
@@ -121,15 +147,67 @@ public class ApplicationController {
                 throw new UnauthorizedAccessException("Not authorized to view applications for this job");
             }
             
+            if (cursorMode) {
+                return ResponseEntity.ok(applicationService.getApplicationsByJobIdWithCursor(
+                    jobId, status, cursor, limit, includeTotal));
+            }
             return ResponseEntity.ok(applicationService.getApplicationsByJobId(
                 jobId, status, page, limit, sortBy, sortOrder));
         }
         
         // Job seeker viewing their own applications (status filter not applicable for job seeker)
+        if (cursorMode) {
+            return ResponseEntity.ok(applicationService.getUserApplicationsWithCursor(
+                userId, cursor, limit, includeTotal));
+        }
         return ResponseEntity.ok(applicationService.getUserApplications(
             userId, page, limit, sortBy, sortOrder));
     }
 
+    /**
+     * Export every application of one of the employer's jobs as CSV or NDJSON.
+     * Rows are streamed from the database as they are read; optional status filter
+     * (e.g. status=IN_REVIEW,SHORTLISTED) and column selection (e.g. columns=applicantName,applicantEmail).
+     */
+    @GetMapping("/export")
+    public void exportApplications(
+        @RequestParam Long jobId,
+        @RequestParam(defaultValue = "csv") String format,
+        @RequestParam(required = false) List<String> status,
+        @RequestParam(required = false) List<String> columns,
+        HttpServletRequest httpRequest,
+        HttpServletResponse httpResponse) throws IOException {
+        
+        String employerId = extractUserId(httpRequest);
+        log.info("Exporting applications of job {} as {} for employer: {}", jobId, format, employerId);
+        
+        // Validate before the response is committed, so errors still go through the exception handler
+        ApplicationExportService.ExportSpec spec = applicationExportService.prepare(jobId, employerId, format, status, columns);
+        
+        httpResponse.setContentType(spec.format().contentType());
+        httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        httpResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(spec.fileName()).build().toString());
+        applicationExportService.write(spec, httpResponse.getOutputStream());
+    }
+    
+    /**
+     * Server-Sent Events stream of the caller's application status changes.
+     * Events are named "application-status" and carry an id; a client reconnecting with
+     * Last-Event-ID receives what it missed, or a "resync" event when that is no longer buffered.
+     * Comment heartbeats keep idle connections open.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamApplicationStatus(
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+        HttpServletRequest httpRequest) {
+        
+        String userId = extractUserId(httpRequest);
+        log.debug("Opening status stream for user: {}, lastEventId: {}", userId, lastEventId);
+        
+        return applicationStatusStream.subscribe(userId, lastEventId);
+    }
+
     @GetMapping("/{applicationId}")
     public ResponseEntity<ApplicationDetailsResponse> getApplicationDetails(
         @PathVariable String applicationId,
@@ -176,6 +254,23 @@ public class ApplicationController {
             applicationId, request.getStatus(), request.getReason(), employerId));
     }
     
+    /**
+     * Update the status of many applications of one job in a single request.
+     * Returns a result per application; the request only fails as a whole when
+     * the job is missing, not owned by the caller, or the target status is not allowed.
+     */
+    @PutMapping("/bulk-status")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateApplicationStatus(
+        @Valid @RequestBody BulkStatusUpdateRequest request,
+        HttpServletRequest httpRequest) {
+        
+        String employerId = extractUserId(httpRequest);
+        log.info("Bulk updating {} applications of job {} to {} by employer: {}", 
+            request.getApplicationIds().size(), request.getJobId(), request.getStatus(), employerId);
+        
+        return ResponseEntity.ok(applicationService.bulkUpdateStatus(request, employerId));
+    }
+    
     /**
      * View resume for an application.
      * Only the employer who owns the job can view resumes.
@@ -221,6 +316,27 @@ public class ApplicationController {
         return ResponseEntity.notFound().build();
     }
     
+    /**
+     * 201 for a new application; 200 with Idempotent-Replayed when a retried
+     * Idempotency-Key returned the response of the original submission.
+     */
+    private ResponseEntity<ApplicationDetailsResponse> submitted(ApplicationService.SubmitResult result) {
+        if (result.replayed()) {
+            return ResponseEntity.ok()
+                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                .body(result.response());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(result.response());
+    }
+    
+    private void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null
+            && (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyService.MAX_KEY_LENGTH)) {
+            throw new InvalidIdempotencyKeyException(
+                "Idempotency-Key must be 1-" + IdempotencyService.MAX_KEY_LENGTH + " characters");
+        }
+    }
+    
     /**
      * Extracts userId from API Gateway headers.
      * The API Gateway validates JWT tokens and forwards user info via headers.
@@ -0,0 +1,77 @@
+package com.example.Application_Service.controller;
+
+import com.example.Application_Service.repository.projection.JobSummary;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validators and conditional request checks for cacheable GET endpoints. Controllers check
+ * the request before loading anything, so a 304 costs neither a load nor serialization.
+ */
+final class HttpCaching {
+
+    private HttpCaching() {
+    }
+
+    /**
+     * Weak ETag of a job: its updatedAt plus the applications and (flushed) views counters, which are
+     * bumped without touching updatedAt. Weak because the body also counts views not flushed yet.
+     */
+    static String jobEtag(JobSummary job) {
+        Instant instant = toInstant(job.updatedAt());
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+        return "W/\"job-" + job.id() + "-" + Long.toHexString(micros)
+            + "-" + counter(job.applicationsCount()) + "-" + counter(job.viewsCount()) + "\"";
+    }
+
+    private static int counter(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    // updated_at is written in the JVM's zone (@UpdateTimestamp)
+    static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    static boolean isConditional(HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * True when the client's copy is current: If-None-Match (weak comparison) when sent,
+     * otherwise If-Modified-Since against {@code lastModified} (null: only ETags are checked)
+     */
+    static boolean notModified(HttpServletRequest request, String etag, Instant lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String opaque = opaqueTag(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (lastModified == null) {
+            return false;
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            // HTTP dates have second precision
+            return since >= 0 && lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli() <= since;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.Application_Service.controller;
+
+import com.example.Application_Service.service.MetricsSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Operational metrics of background components (outbox relay, caches, queues).
+ * Not routed by the API Gateway; meant for monitoring scrapes inside the cluster.
+ */
+@RestController
+@RequestMapping("/api/v1/internal/metrics")
+@RequiredArgsConstructor
+public class InternalMetricsController {
+
+    private final List<MetricsSource> sources;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Map<String, Object>>> getMetrics() {
+        Map<String, Map<String, Object>> metrics = new TreeMap<>();
+        for (MetricsSource source : sources) {
+            metrics.put(source.metricsName(), source.metrics());
+        }
+        return ResponseEntity.ok(metrics);
+    }
+}
@@ -2,24 +2,41 @@ package com.example.Application_Service.controller;
 
 import com.example.Application_Service.dto.request.CreateJobRequest;
 import com.example.Application_Service.dto.request.RecommendationFeedbackRequest;
+import com.example.Application_Service.dto.response.AutocompleteSuggestion;
+import com.example.Application_Service.dto.response.JobClosureProgressResponse;
+import com.example.Application_Service.dto.response.JobPipelineResponse;
 import com.example.Application_Service.dto.response.JobResponse;
 import com.example.Application_Service.dto.response.PagedJobsResponse;
-import com.example.Application_Service.dto.response.PagedResponse;
 import com.example.Application_Service.dto.response.RecommendationResponse;
 import com.example.Application_Service.dto.response.SavedJobsResponse;
+import com.example.Application_Service.repository.projection.JobSummary;
+import com.example.Application_Service.search.JobSearchQuery;
+import com.example.Application_Service.search.JobSearchService;
+import com.example.Application_Service.service.JobIngestionService;
 import com.example.Application_Service.service.JobService;
 import com.example.Application_Service.service.RecommendationService;
 import com.example.Application_Service.service.SavedJobService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 
 
@@ -33,6 +50,18 @@ public class JobManagementController {
     private final SavedJobService savedJobService;
     private final RecommendationService recommendationService;
     private final JobService jobService;
+    private final JobSearchService jobSearchService;
+    private final JobIngestionService jobIngestionService;
+
+    // Public catalog reads may be cached by the gateway and browsers for a short while
+    @Value("${http.cache.job-detail-max-age-seconds:30}")
+    private long jobDetailMaxAgeSeconds;
+
+    @Value("${http.cache.job-search-max-age-seconds:15}")
+    private long jobSearchMaxAgeSeconds;
+
+    // Per-user and per-employer reads: never shared, always revalidated
+    private static final CacheControl PRIVATE = CacheControl.noCache().cachePrivate();
 
     // ============== JOB CRUD ==============
 
@@ -47,6 +76,25 @@ public class JobManagementController {
         return ResponseEntity.ok(jobService.createJob(request, employerId));
     }
 
+    /**
+     * Bulk upsert of the caller's jobs from an ATS, keyed by externalId.
+     * The body is NDJSON (one CreateJobRequest plus externalId per line); the response streams
+     * one result per line in input order, then a summary line.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void bulkUpsertJobs(
+        HttpServletRequest httpRequest,
+        HttpServletResponse httpResponse) throws IOException {
+        
+        String employerId = extractUserId(httpRequest);
+        log.info("Bulk job ingestion for employer: {}", employerId);
+        
+        httpResponse.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        jobIngestionService.ingest(employerId, httpRequest.getInputStream(), httpResponse.getOutputStream());
+    }
+
     @GetMapping
     public ResponseEntity<PagedJobsResponse> getJobs(
         @RequestParam(required = false) String employerId,
@@ -55,42 +103,160 @@ public class JobManagementController {
         @RequestParam(defaultValue = "20") int limit,
         @RequestParam(defaultValue = "createdAt") String sortBy,
         @RequestParam(defaultValue = "desc") String sortOrder,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal,
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) String location,
+        @RequestParam(required = false) String seniority,
+        @RequestParam(required = false) String type,
+        @RequestParam(required = false) Boolean isRemote,
+        @RequestParam(required = false) Long minSalary,
+        @RequestParam(required = false) String currency,
+        @RequestParam(defaultValue = "false") boolean includeFacets,
         HttpServletRequest request) {
         
         // If employerId provided, return employer's jobs
         if (employerId != null && !employerId.isEmpty()) {
             log.info("Fetching jobs for employer: {} with status: {}", employerId, status);
-            return ResponseEntity.ok(jobService.getJobsByEmployer(employerId, status, page, limit, sortBy, sortOrder));
+            // A cursor parameter (empty for the first page) switches to keyset pagination by createdAt desc
+            if (cursor != null) {
+                return ResponseEntity.ok().cacheControl(PRIVATE)
+                        .body(jobService.getJobsByEmployerWithCursor(employerId, status, cursor, limit, includeTotal));
+            }
+            return ResponseEntity.ok().cacheControl(PRIVATE)
+                    .body(jobService.getJobsByEmployer(employerId, status, minSalary, currency, page, limit, sortBy, sortOrder));
         }
         
-        // Otherwise, return empty response (job seekers use different endpoint)
-        return ResponseEntity.ok(PagedJobsResponse.builder()
-                .jobs(java.util.Collections.emptyList())
-                .pagination(PagedResponse.PaginationInfo.builder()
-                        .page(page)
-                        .limit(limit)
-                        .total(0)
-                        .totalPages(0)
-                        .build())
-                .build());
+        // Otherwise, search the Published catalog (keywords and filters are optional)
+        // sortBy=salary orders by the parsed yearly salary; anything else keeps relevance / newest first
+        log.debug("Searching jobs: q={}, location={}, seniority={}, type={}, isRemote={}, minSalary={}",
+                q, location, seniority, type, isRemote, minSalary);
+        JobSearchQuery.Order order = "salary".equals(sortBy) ? JobSearchQuery.Order.SALARY : JobSearchQuery.Order.RELEVANCE;
+        // Taken before searching: a write during the search makes the ETag older, never newer, than the body
+        String etag = jobSearchService.resultsEtag();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(jobSearchMaxAgeSeconds)).cachePublic();
+        if (HttpCaching.notModified(request, etag, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(jobSearchService.search(
+                new JobSearchQuery(q, location, seniority, type, isRemote, minSalary, currency, order),
+                page, limit, includeFacets));
     }
 
-    @GetMapping("/{jobId}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable Long jobId) {
+    /**
+     * Job detail with an ETag from the job's updatedAt and counters. No Last-Modified: the counters
+     * change without touching updatedAt. A conditional request is checked against the cached version
+     * first and answered with 304 without loading the job; otherwise the pre-serialized JSON from
+     * JobResponseCache is written as is.
+     */
+    @GetMapping(value = "/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJobById(@PathVariable Long jobId, HttpServletRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(jobDetailMaxAgeSeconds)).cachePublic();
+        if (HttpCaching.isConditional(request)) {
+            Optional<JobSummary> version = jobService.getVersion(jobId);
+            if (version.isPresent() && version.get().updatedAt() != null) {
+                String etag = HttpCaching.jobEtag(version.get());
+                if (HttpCaching.notModified(request, etag, null)) {
+                    log.debug("Job {} not modified", jobId);
+                    jobService.recordView(jobId);
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(etag)
+                            .cacheControl(cacheControl)
+                            .build();
+                }
+            }
+        }
+
         log.info("Fetching job by ID: {}", jobId);
-        return ResponseEntity.ok(jobService.getJobById(jobId));
+        JobService.RenderedJob job = jobService.viewJobJson(jobId);
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).cacheControl(cacheControl);
+        if (job.version() != null && job.version().updatedAt() != null) {
+            ok.eTag(HttpCaching.jobEtag(job.version()));
+        }
+        return ok.body(job.json());
     }
 
+    /**
+     * Update job status. Closing with rejectOpenApplications=true also rejects every open
+     * application of the job in the background; follow it with GET /{jobId}/closure.
+     */
     @PutMapping("/{jobId}/status")
     public ResponseEntity<JobResponse> updateJobStatus(
         @PathVariable Long jobId,
         @RequestParam String status,
+        @RequestParam(defaultValue = "false") boolean rejectOpenApplications,
+        @RequestParam(required = false) String reason,
+        HttpServletRequest httpRequest) {
+        
+        String employerId = extractUserId(httpRequest);
+        log.info("Updating job {} status to {} for employer: {} (rejectOpenApplications: {})", 
+            jobId, status, employerId, rejectOpenApplications);
+        
+        return ResponseEntity.ok(jobService.updateJobStatus(jobId, status, employerId, rejectOpenApplications, reason));
+    }
+
+    /**
+     * Typeahead for search boxes: most frequent Published job titles, companies and skills starting
+     * with {@code q}, answered from memory. {@code field} (title, company or skill) asks for one list only.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<Map<String, List<AutocompleteSuggestion>>> autocomplete(
+        @RequestParam String q,
+        @RequestParam(required = false) String field,
+        @RequestParam(defaultValue = "10") int limit,
+        HttpServletRequest request) {
+        
+        String etag = jobSearchService.resultsEtag();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(jobSearchMaxAgeSeconds)).cachePublic();
+        if (HttpCaching.notModified(request, etag, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(jobSearchService.autocomplete(q, field, limit));
+    }
+
+    /**
+     * Published jobs most similar to this one by skills, seniority, location and type, from the
+     * precomputed neighbor lists. Shares the search ETag: both change with the index.
+     */
+    @GetMapping("/{jobId}/similar")
+    public ResponseEntity<List<JobResponse>> getSimilarJobs(
+        @PathVariable Long jobId,
+        @RequestParam(defaultValue = "10") int limit,
+        HttpServletRequest request) {
+        
+        String etag = jobSearchService.resultsEtag();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(jobSearchMaxAgeSeconds)).cachePublic();
+        if (HttpCaching.notModified(request, etag, null)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(jobSearchService.similarJobs(jobId, limit));
+    }
+
+    /**
+     * Progress of rejecting a closed job's open applications
+     */
+    @GetMapping("/{jobId}/closure")
+    public ResponseEntity<JobClosureProgressResponse> getJobClosureProgress(
+        @PathVariable Long jobId,
+        HttpServletRequest httpRequest) {
+        
+        String employerId = extractUserId(httpRequest);
+        return ResponseEntity.ok().cacheControl(PRIVATE).body(jobService.getClosureProgress(jobId, employerId));
+    }
+
+    /**
+     * Applicant pipeline for one of the employer's jobs: total applications and count per status,
+     * served from the materialized counters.
+     */
+    @GetMapping("/{jobId}/pipeline")
+    public ResponseEntity<JobPipelineResponse> getJobPipeline(
+        @PathVariable Long jobId,
         HttpServletRequest httpRequest) {
         
         String employerId = extractUserId(httpRequest);
-        log.info("Updating job {} status to {} for employer: {}", jobId, status, employerId);
+        log.info("Fetching pipeline for job {} by employer: {}", jobId, employerId);
         
-        return ResponseEntity.ok(jobService.updateJobStatus(jobId, status, employerId));
+        return ResponseEntity.ok().cacheControl(PRIVATE).body(jobService.getPipelineSummary(jobId, employerId));
     }
 
     // ============== SAVED JOBS ==============
@@ -123,12 +289,19 @@ public class JobManagementController {
         @RequestParam(defaultValue = "20") int limit,
         @RequestParam(defaultValue = "savedDate") String sortBy,
         @RequestParam(defaultValue = "desc") String sortOrder,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "false") boolean includeTotal,
         HttpServletRequest request) {
         
         String userId = extractUserId(request);
         log.info("Fetching saved jobs for user: {}", userId);
         
-        return ResponseEntity.ok(savedJobService.getSavedJobs(userId, page, limit, sortBy, sortOrder));
+        // A cursor parameter (empty for the first page) switches to keyset pagination by savedDate desc
+        if (cursor != null) {
+            return ResponseEntity.ok().cacheControl(PRIVATE)
+                    .body(savedJobService.getSavedJobsWithCursor(userId, cursor, limit, includeTotal));
+        }
+        return ResponseEntity.ok().cacheControl(PRIVATE).body(savedJobService.getSavedJobs(userId, page, limit, sortBy, sortOrder));
     }
 
     @GetMapping("/saved/count")
@@ -136,7 +309,7 @@ public class JobManagementController {
         String userId = extractUserId(request);
         log.info("Fetching saved jobs count for user: {}", userId);
         
-        return ResponseEntity.ok(savedJobService.getSavedJobsCount(userId));
+        return ResponseEntity.ok().cacheControl(PRIVATE).body(savedJobService.getSavedJobsCount(userId));
     }
 
     // ============== RECOMMENDATIONS ==============
@@ -152,7 +325,8 @@ public class JobManagementController {
         String authToken = extractAuthToken(request);
         log.info("Fetching recommendations for user: {}", userId);
         
-        return ResponseEntity.ok(recommendationService.getRecommendations(userId, authToken, limit, page, refresh));
+        return ResponseEntity.ok().cacheControl(PRIVATE)
+                .body(recommendationService.getRecommendations(userId, authToken, limit, page, refresh));
     }
 
     @GetMapping("/recommendations/refresh")
@@ -161,7 +335,8 @@ public class JobManagementController {
         String authToken = extractAuthToken(request);
         log.info("Refreshing recommendations for user: {}", userId);
         
-        return ResponseEntity.ok(recommendationService.refreshRecommendations(userId, authToken));
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore())
+                .body(recommendationService.refreshRecommendations(userId, authToken));
     }
 
     @PostMapping("/recommendations/feedback")
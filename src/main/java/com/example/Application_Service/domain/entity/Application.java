@@ -11,7 +11,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications",
+       uniqueConstraints = @UniqueConstraint(name = "unique_user_job", columnNames = {"user_id", "job_id"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,117 @@
+package com.example.Application_Service.domain.entity;
+
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Materialized application counters: total submitted plus one column per status.
+ * Shared by the per-user and per-job counter tables.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusCounts {
+
+    @Column(name = "total", nullable = false)
+    private int total;
+
+    @Column(name = "applied", nullable = false)
+    private int applied;
+
+    @Column(name = "resume_viewed", nullable = false)
+    private int resumeViewed;
+
+    @Column(name = "in_review", nullable = false)
+    private int inReview;
+
+    @Column(name = "shortlisted", nullable = false)
+    private int shortlisted;
+
+    @Column(name = "interview", nullable = false)
+    private int interview;
+
+    @Column(name = "offered", nullable = false)
+    private int offered;
+
+    @Column(name = "rejected", nullable = false)
+    private int rejected;
+
+    @Column(name = "withdrawn", nullable = false)
+    private int withdrawn;
+
+    public static ApplicationStatusCounts empty() {
+        return new ApplicationStatusCounts();
+    }
+
+    public int get(ApplicationStatus status) {
+        return switch (status) {
+            case APPLIED -> applied;
+            case RESUME_VIEWED -> resumeViewed;
+            case IN_REVIEW -> inReview;
+            case SHORTLISTED -> shortlisted;
+            case INTERVIEW -> interview;
+            case OFFERED -> offered;
+            case REJECTED -> rejected;
+            case WITHDRAWN -> withdrawn;
+        };
+    }
+
+    public void adjust(ApplicationStatus status, int delta) {
+        switch (status) {
+            case APPLIED -> applied += delta;
+            case RESUME_VIEWED -> resumeViewed += delta;
+            case IN_REVIEW -> inReview += delta;
+            case SHORTLISTED -> shortlisted += delta;
+            case INTERVIEW -> interview += delta;
+            case OFFERED -> offered += delta;
+            case REJECTED -> rejected += delta;
+            case WITHDRAWN -> withdrawn += delta;
+        }
+    }
+
+    /**
+     * A new application always enters as APPLIED
+     */
+    public void recordSubmission() {
+        total++;
+        applied++;
+    }
+
+    public void recordTransition(ApplicationStatus from, ApplicationStatus to) {
+        adjust(from, -1);
+        adjust(to, 1);
+    }
+
+    /**
+     * Non-zero counts keyed by status name, in status order
+     */
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> byStatus = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            int count = get(status);
+            if (count != 0) {
+                byStatus.put(status.name(), count);
+            }
+        }
+        return byStatus;
+    }
+
+    /**
+     * Every status keyed by name, in status order, including zero counts
+     */
+    public Map<String, Integer> toFullMap() {
+        Map<String, Integer> byStatus = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            byStatus.put(status.name(), get(status));
+        }
+        return byStatus;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.Application_Service.domain.entity;
+
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Read model behind the application list endpoints: one row per application carrying the
+ * columns of ApplicationResponse together with the job summary, so seeker and employer lists
+ * are single-table index scans. Written only by ApplicationViewProjector, in the transaction
+ * of the application or job change.
+ */
+@Entity
+@Immutable
+@Table(name = "application_view", indexes = {
+    @Index(name = "idx_view_user_created", columnList = "user_id, created_at, id"),
+    @Index(name = "idx_view_job_created", columnList = "job_id, created_at, id"),
+    @Index(name = "idx_view_job_status_created", columnList = "job_id, status, created_at, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationView {
+
+    @Id
+    private String id;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ApplicationStatus status;
+
+    @Column(name = "applied_date")
+    private LocalDate appliedDate;
+
+    @Column(name = "resume_id")
+    private String resumeId;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "applicant_name")
+    private String applicantName;
+
+    @Column(name = "applicant_email")
+    private String applicantEmail;
+
+    // Job summary, copied from job
+    @Column(name = "job_title")
+    private String jobTitle;
+
+    @Column(name = "job_company")
+    private String jobCompany;
+
+    @Column(name = "job_company_id")
+    private String jobCompanyId;
+
+    @Column(name = "job_employer_id")
+    private String jobEmployerId;
+
+    @Column(name = "job_logo")
+    private String jobLogo;
+
+    @Column(name = "job_location")
+    private String jobLocation;
+
+    @Column(name = "job_type")
+    private String jobType;
+
+    @Column(name = "job_salary")
+    private String jobSalary;
+
+    @Column(name = "job_posted_date")
+    private LocalDate jobPostedDate;
+
+    @Column(name = "job_status")
+    private String jobStatus;
+
+    @Column(name = "job_seniority")
+    private String jobSeniority;
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -13,6 +15,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_job_status_salary_max", columnList = "status, salary_max"),
+    @Index(name = "idx_job_employer_salary_max", columnList = "employer_id, salary_max")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_job_employer_external", columnNames = {"employer_id", "external_id"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -27,17 +33,32 @@ public class Job {
     private String location;
     private String type;
     private String salary;
+
+    // Parsed from salary (SalaryRange): yearly amounts, so "salary >= X" and salary sorts can use an index
+    @Column(name = "salary_min")
+    private Long salaryMin;
+    @Column(name = "salary_max")
+    private Long salaryMax;
+    @Column(name = "salary_currency", length = 3)
+    private String salaryCurrency;
+    @Column(name = "salary_period", length = 10)
+    private String salaryPeriod;
     private String description;
+    // Collections are fetched by subselect: the first access loads that collection for every job
+    // of the same query in one statement, so N jobs cost 1 + 3 selects instead of 1 + 3N
     @ElementCollection
     @CollectionTable(name = "job_responsibilities", joinColumns = @JoinColumn(name = "job_id"))
+    @Fetch(FetchMode.SUBSELECT)
     private List<String> responsibilities;
     
     @ElementCollection
     @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"))
+    @Fetch(FetchMode.SUBSELECT)
     private List<String> skills;
     
     @ElementCollection
     @CollectionTable(name = "job_benefits", joinColumns = @JoinColumn(name = "job_id"))
+    @Fetch(FetchMode.SUBSELECT)
     private List<String> benefits;
     private String status;
     private LocalDate postedDate;
@@ -45,6 +66,10 @@ public class Job {
     // Employer tracking
     @Column(name = "employer_id", nullable = false)
     private String employerId;
+
+    // Posting id in the employer's ATS; bulk ingestion upserts by (employerId, externalId)
+    @Column(name = "external_id")
+    private String externalId;
     
     @CreationTimestamp
     @Column(name = "created_at")
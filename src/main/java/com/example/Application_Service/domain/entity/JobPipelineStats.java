@@ -0,0 +1,35 @@
+package com.example.Application_Service.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Per-job applicant pipeline: total applications received and how many sit in each status.
+ * Maintained in the same transaction as every application write, so employer dashboards
+ * never have to aggregate the applications table.
+ */
+@Entity
+@Table(name = "job_pipeline_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPipelineStats {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Embedded
+    private ApplicationStatusCounts counts;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,96 @@
+package com.example.Application_Service.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Per-user application counters backing GET /api/v1/applications/stats.
+ * Maintained in the same transaction as every application write and repaired
+ * by ApplicationStatsService's reconciliation job.
+ *
+ * Submissions per day are kept in a ring of DAILY_BUCKETS slots (slot = epochDay % DAILY_BUCKETS),
+ * which covers the week and month windows without touching the applications table.
+ */
+@Entity
+@Table(name = "user_application_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserApplicationStats {
+
+    public static final int DAILY_BUCKETS = 32;
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Embedded
+    private ApplicationStatusCounts counts;
+
+    @Column(name = "daily_counts")
+    private int[] dailyCounts;
+
+    // Epoch day of the most recent slot in dailyCounts
+    @Column(name = "last_bucket_day")
+    private Long lastBucketDay;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public void recordSubmissionOn(LocalDate day) {
+        addToDay(day, 1);
+    }
+
+    /**
+     * Add to the bucket for the given day, rolling the ring forward if the day is newer.
+     * Days older than the ring are ignored.
+     */
+    public void addToDay(LocalDate date, int delta) {
+        long day = date.toEpochDay();
+        if (dailyCounts == null || dailyCounts.length != DAILY_BUCKETS || lastBucketDay == null) {
+            dailyCounts = new int[DAILY_BUCKETS];
+            lastBucketDay = day;
+        }
+        if (day > lastBucketDay) {
+            // Clear the slots of the days we skipped over; they now belong to newer days
+            long clearFrom = Math.max(lastBucketDay + 1, day - DAILY_BUCKETS + 1);
+            for (long d = clearFrom; d <= day; d++) {
+                dailyCounts[slot(d)] = 0;
+            }
+            lastBucketDay = day;
+        }
+        if (day <= lastBucketDay - DAILY_BUCKETS) {
+            return;
+        }
+        dailyCounts[slot(day)] += delta;
+    }
+
+    /**
+     * Submissions with an applied date strictly after {@code since} and not after {@code today}
+     */
+    public int countAppliedAfter(LocalDate since, LocalDate today) {
+        if (dailyCounts == null || lastBucketDay == null) {
+            return 0;
+        }
+        long from = Math.max(since.toEpochDay() + 1, lastBucketDay - DAILY_BUCKETS + 1);
+        long to = Math.min(today.toEpochDay(), lastBucketDay);
+        int sum = 0;
+        for (long d = from; d <= to; d++) {
+            sum += dailyCounts[slot(d)];
+        }
+        return sum;
+    }
+
+    private static int slot(long epochDay) {
+        return (int) Math.floorMod(epochDay, (long) DAILY_BUCKETS);
+    }
+}
@@ -1,5 +1,11 @@
 package com.example.Application_Service.domain.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum ApplicationStatus {
     APPLIED("Applied"),
     RESUME_VIEWED("Resume Viewed"),
@@ -10,6 +16,28 @@ public enum ApplicationStatus {
     REJECTED("Rejected"),
     WITHDRAWN("Withdrawn");
 
+    /**
+     * Transition table: for each target status, the statuses it may be reached from.
+     * APPLIED -> RESUME_VIEWED is set when the employer opens the resume,
+     * APPLIED/RESUME_VIEWED -> IN_REVIEW -> SHORTLISTED -> INTERVIEW -> OFFERED is the employer pipeline,
+     * any non-terminal status -> REJECTED (employer) or WITHDRAWN (job seeker).
+     */
+    private static final Map<ApplicationStatus, Set<ApplicationStatus>> PREDECESSORS = new EnumMap<>(ApplicationStatus.class);
+
+    static {
+        Set<ApplicationStatus> open = EnumSet.of(APPLIED, RESUME_VIEWED, IN_REVIEW, SHORTLISTED, INTERVIEW);
+        
+        PREDECESSORS.put(APPLIED, EnumSet.noneOf(ApplicationStatus.class));
+        PREDECESSORS.put(RESUME_VIEWED, EnumSet.of(APPLIED));
+        PREDECESSORS.put(IN_REVIEW, EnumSet.of(APPLIED, RESUME_VIEWED));
+        PREDECESSORS.put(SHORTLISTED, EnumSet.of(IN_REVIEW));
+        PREDECESSORS.put(INTERVIEW, EnumSet.of(SHORTLISTED));
+        PREDECESSORS.put(OFFERED, EnumSet.of(INTERVIEW));
+        PREDECESSORS.put(REJECTED, EnumSet.copyOf(open));
+        PREDECESSORS.put(WITHDRAWN, EnumSet.copyOf(open));
+        PREDECESSORS.replaceAll((status, from) -> Collections.unmodifiableSet(from));
+    }
+
     private final String displayName;
 
     ApplicationStatus(String displayName) {
@@ -19,4 +47,22 @@ public enum ApplicationStatus {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * Statuses from which this status may be entered
+     */
+    public Set<ApplicationStatus> predecessors() {
+        return PREDECESSORS.get(this);
+    }
+
+    public boolean canTransitionTo(ApplicationStatus next) {
+        return PREDECESSORS.get(next).contains(this);
+    }
+
+    /**
+     * OFFERED, REJECTED and WITHDRAWN have no outgoing transitions
+     */
+    public boolean isTerminal() {
+        return this == OFFERED || this == REJECTED || this == WITHDRAWN;
+    }
 }
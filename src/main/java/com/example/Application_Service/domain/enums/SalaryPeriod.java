@@ -0,0 +1,22 @@
+package com.example.Application_Service.domain.enums;
+
+/**
+ * Pay period stated in a salary text, with the factor that turns an amount into a yearly one
+ */
+public enum SalaryPeriod {
+    HOUR(2080),
+    DAY(260),
+    WEEK(52),
+    MONTH(12),
+    YEAR(1);
+
+    private final int perYear;
+
+    SalaryPeriod(int perYear) {
+        this.perYear = perYear;
+    }
+
+    public long annualize(double amount) {
+        return Math.round(amount * perYear);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.Application_Service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Compact job change event on the job-events topic.
+ * Carries only what a cache needs to decide whether its copy is stale, not the job itself.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobEventData {
+
+    /**
+     * Type of event: JOB_CREATED, JOB_UPDATED
+     */
+    private String eventType;
+
+    private Long jobId;
+
+    /**
+     * updated_at of the job after the change, in microseconds; grows with every change of the job
+     */
+    private Long version;
+
+    private String status;
+
+    /**
+     * Fields the change touched; null when not known (treat as everything)
+     */
+    private List<String> changedFields;
+
+    /**
+     * Node that made the change; it has already applied the change locally
+     */
+    private String origin;
+
+    private LocalDateTime timestamp;
+
+    public static long version(LocalDateTime updatedAt) {
+        return updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.Application_Service.dto;
+
+import com.example.Application_Service.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort key and id of the last row of a page.
+ * The next page seeks with (sortKey, id) < (cursor.sortKey, cursor.id),
+ * so it costs the same no matter how deep the client has scrolled.
+ */
+public record PageCursor(String sortKey, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static PageCursor of(Object sortKey, Object id) {
+        return new PageCursor(String.valueOf(sortKey), String.valueOf(id));
+    }
+
+    /**
+     * Decode a cursor from a request parameter. Returns null for an empty cursor (first page).
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidCursorException("Malformed pagination cursor");
+            }
+            return new PageCursor(raw.substring(0, separator), raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((sortKey + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Instant sortKeyAsInstant() {
+        try {
+            return Instant.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Pagination cursor does not match this listing");
+        }
+    }
+
+    public LocalDateTime sortKeyAsLocalDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException("Pagination cursor does not match this listing");
+        }
+    }
+
+    public Long idAsLong() {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Pagination cursor does not match this listing");
+        }
+    }
+}
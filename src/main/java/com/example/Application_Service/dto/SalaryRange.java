@@ -0,0 +1,141 @@
+package com.example.Application_Service.dto;
+
+import com.example.Application_Service.domain.enums.SalaryPeriod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Salary text ("$120,000 - $160,000", "€45/hr", "NGN 500k monthly") parsed into yearly amounts.
+ * Min and max are normalized to a yearly amount in the stated currency so jobs can be filtered
+ * and sorted on them; {@code period} keeps what the text said.
+ *
+ * @param min      yearly lower bound, null for "up to X"
+ * @param max      yearly upper bound
+ * @param currency ISO 4217 code, null when the text names none
+ * @param period   period the amounts were stated in
+ */
+public record SalaryRange(Long min, Long max, String currency, SalaryPeriod period) {
+
+    // A number with an optional k/m multiplier; durations such as "6 months" or "2+ years" are not amounts
+    private static final Pattern AMOUNT = Pattern.compile(
+        "(\\d[\\d,]*+(?:\\.\\d+)?+)\\s*([km])?(?![a-z])(?!\\s*\\+?\\s*(?:hours|days|weeks|months|years?|yrs?)\\b)");
+    // A period right after an amount ("/hr", "per day", "an hour", "monthly", "pa", "90k CAD per annum");
+    // anywhere else in the text it says nothing about the pay ("4 day week", "academic year")
+    private static final Pattern PERIOD = Pattern.compile(
+        "(?:\\s*(?:usd|eur|gbp|cad|ngn)\\b)?\\s*(?:(?:/|per\\b|an?\\b|each\\b)\\s*)?"
+            + "(?:(hours?|hrs?|hourly|days?|daily|weeks?|wks?|weekly|months?|mos?|monthly|years?|yrs?|yearly|annum|annual|annually)\\b"
+            + "|p\\.?([hdwma])\\b)");
+    // Currencies as symbols or whole words; the first that matches wins, so C$ is tried before $
+    private static final Pattern NGN = Pattern.compile("₦|\\b(?:ngn|naira)\\b");
+    private static final Pattern EUR = Pattern.compile("€|\\b(?:eur|euros?)\\b");
+    private static final Pattern GBP = Pattern.compile("£|\\bgbp\\b");
+    private static final Pattern CAD = Pattern.compile("\\bcad\\b|\\bca?\\$");
+    private static final Pattern USD = Pattern.compile("\\busd\\b|\\bus\\$|(?<![a-z])\\$");
+
+    // Amounts below this without a stated period are too ambiguous (hourly? thousands?) to index
+    private static final double MIN_IMPLICIT_YEARLY = 1000;
+    // An amount this many times below the largest one is some other number ("Level 2, $100k", "10% bonus")
+    private static final double MAX_RANGE_RATIO = 10;
+    // What separates the two bounds of a range, currency symbol included ("50 - $60k", "50 to 60k")
+    private static final Pattern RANGE_GAP = Pattern.compile("\\s*(?:-|–|to)\\s*[^\\d\\s]{0,3}");
+
+    /**
+     * Parse a salary text; empty when it holds no usable amount ("Competitive", "Negotiable")
+     */
+    public static Optional<SalaryRange> parse(String salary) {
+        if (salary == null || salary.isBlank()) {
+            return Optional.empty();
+        }
+        String text = salary.toLowerCase(Locale.ROOT);
+
+        List<Amount> amounts = new ArrayList<>();
+        double previousMultiplier = 0;
+        int previousEnd = 0;
+        Matcher matcher = AMOUNT.matcher(text);
+        while (matcher.find()) {
+            double amount = Double.parseDouble(matcher.group(1).replace(",", ""));
+            double multiplier = "k".equals(matcher.group(2)) ? 1_000 : "m".equals(matcher.group(2)) ? 1_000_000 : 1;
+            if (amount <= 0) {
+                continue;
+            }
+            // "50-60k": the upper bound's multiplier applies to both
+            int last = amounts.size() - 1;
+            if (last >= 0 && previousMultiplier == 1 && multiplier > 1 && amounts.get(last).value() <= amount
+                    && RANGE_GAP.matcher(text.substring(previousEnd, matcher.start())).matches()) {
+                amounts.set(last, new Amount(amounts.get(last).value() * multiplier, amounts.get(last).period()));
+            }
+            amounts.add(new Amount(amount * multiplier, periodAfter(text, matcher.end())));
+            previousMultiplier = multiplier;
+            previousEnd = matcher.end();
+        }
+        if (amounts.isEmpty()) {
+            return Optional.empty();
+        }
+        // The range is the first two amounts left after dropping implausible ones
+        double largest = amounts.stream().mapToDouble(Amount::value).max().getAsDouble();
+        amounts = amounts.stream().filter(amount -> amount.value() * MAX_RANGE_RATIO >= largest).limit(2).toList();
+
+        // "$40-50/hr": the period usually follows the upper bound only
+        SalaryPeriod period = null;
+        for (Amount amount : amounts) {
+            if (amount.period() != null) {
+                period = amount.period();
+            }
+        }
+        double low = Math.min(amounts.get(0).value(), amounts.get(amounts.size() - 1).value());
+        double high = Math.max(amounts.get(0).value(), amounts.get(amounts.size() - 1).value());
+        if (period == null) {
+            if (high < MIN_IMPLICIT_YEARLY) {
+                return Optional.empty();
+            }
+            period = SalaryPeriod.YEAR;
+        }
+        boolean upTo = amounts.size() == 1 && text.contains("up to");
+        return Optional.of(new SalaryRange(
+            upTo ? null : period.annualize(low),
+            period.annualize(high),
+            currencyOf(text),
+            period));
+    }
+
+    private static SalaryPeriod periodAfter(String text, int amountEnd) {
+        Matcher matcher = PERIOD.matcher(text).region(amountEnd, text.length()).useTransparentBounds(true);
+        if (!matcher.lookingAt()) {
+            return null;
+        }
+        char unit = matcher.group(1) != null ? matcher.group(1).charAt(0) : matcher.group(2).charAt(0);
+        return switch (unit) {
+            case 'h' -> SalaryPeriod.HOUR;
+            case 'd' -> SalaryPeriod.DAY;
+            case 'w' -> SalaryPeriod.WEEK;
+            case 'm' -> SalaryPeriod.MONTH;
+            default -> SalaryPeriod.YEAR;
+        };
+    }
+
+    private static String currencyOf(String text) {
+        if (NGN.matcher(text).find()) {
+            return "NGN";
+        }
+        if (EUR.matcher(text).find()) {
+            return "EUR";
+        }
+        if (GBP.matcher(text).find()) {
+            return "GBP";
+        }
+        if (CAD.matcher(text).find()) {
+            return "CAD";
+        }
+        if (USD.matcher(text).find()) {
+            return "USD";
+        }
+        return null;
+    }
+
+    private record Amount(double value, SalaryPeriod period) {}
+}
@@ -0,0 +1,22 @@
+package com.example.Application_Service.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * One line of a bulk job ingestion: a job plus the employer's ATS posting id it is upserted by
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@NoArgsConstructor
+public class BulkJobRecord extends CreateJobRequest {
+
+    @NotBlank(message = "externalId is required")
+    @Size(max = 255, message = "externalId must be at most 255 characters")
+    private String externalId;
+}
@@ -0,0 +1,28 @@
+package com.example.Application_Service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotNull(message = "Job ID is required")
+    private Long jobId;
+
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 500, message = "At most 500 applications can be updated at once")
+    private List<String> applicationIds;
+
+    @NotNull(message = "Status is required")
+    private String status;
+
+    private String reason;
+}
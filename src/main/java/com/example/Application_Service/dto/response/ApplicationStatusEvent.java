@@ -0,0 +1,28 @@
+package com.example.Application_Service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Payload of an event on the job seeker's status stream (GET /api/v1/applications/stream)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApplicationStatusEvent {
+
+    private String eventType;      // APPLICATION_SUBMITTED, APPLICATION_STATUS_UPDATED, RESUME_VIEWED, APPLICATION_WITHDRAWN
+    private String applicationId;
+    private Long jobId;
+    private String jobTitle;
+    private String companyName;
+    private String status;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,17 @@
+package com.example.Application_Service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteSuggestion {
+
+    private String value;
+    // Published jobs having the value
+    private Integer count;
+}
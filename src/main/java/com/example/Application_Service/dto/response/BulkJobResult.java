@@ -0,0 +1,31 @@
+package com.example.Application_Service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of one bulk ingestion record, written as one NDJSON line
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkJobResult {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String FAILED = "failed";
+
+    // 1-based line number in the request body
+    private Long line;
+    private String externalId;
+    private String status;
+    private Long id;
+    private List<String> errors;
+}
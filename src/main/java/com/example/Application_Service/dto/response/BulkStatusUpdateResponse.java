@@ -0,0 +1,41 @@
+package com.example.Application_Service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    private Long jobId;
+    private String status;
+    private int requested;
+    private int updated;
+    private List<Result> results;
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        INVALID_TRANSITION,
+        CONFLICT
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private String applicationId;
+        private Outcome outcome;
+        private String previousStatus;
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.Application_Service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCount {
+
+    private String value;
+    private Integer count;
+}
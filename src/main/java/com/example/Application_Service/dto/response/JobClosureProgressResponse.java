@@ -0,0 +1,26 @@
+package com.example.Application_Service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobClosureProgressResponse {
+
+    private Long jobId;
+    private String state;          // RUNNING, COMPLETED, FAILED
+    private long openAtStart;      // open applications when the run started (estimate)
+    private long rejected;
+    private int batches;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+}
@@ -0,0 +1,20 @@
+package com.example.Application_Service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPipelineResponse {
+
+    private Long jobId;
+    private int total;
+    private Map<String, Integer> byStatus;
+    private String updatedAt;
+}
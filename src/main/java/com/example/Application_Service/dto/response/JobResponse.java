@@ -1,5 +1,6 @@
 package com.example.Application_Service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -22,6 +24,11 @@ public class JobResponse {
     private String location;
     private String type;
     private String salary;
+    // Yearly amounts parsed from salary; null when it could not be parsed
+    private Long salaryMin;
+    private Long salaryMax;
+    private String salaryCurrency;
+    private String salaryPeriod;
     private String description;
     private List<String> responsibilities;
     private List<String> skills;
@@ -29,6 +36,9 @@ public class JobResponse {
     private String status;
     private LocalDate postedDate;
     private Integer applicationsCount;
+    // Only filled on employer job lists
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Integer> applicationsByStatus;
     private Integer viewsCount;
     private String seniority;
     private String logo;
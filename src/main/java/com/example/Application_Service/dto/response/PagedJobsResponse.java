@@ -1,11 +1,13 @@
 package com.example.Application_Service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -15,4 +17,8 @@ public class PagedJobsResponse {
 
     private List<JobResponse> jobs;
     private PagedResponse.PaginationInfo pagination;
+
+    // Only on search requests with includeFacets=true: facet name -> value counts
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, List<FacetCount>> facets;
 }
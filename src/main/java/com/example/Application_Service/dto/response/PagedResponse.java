@@ -1,5 +1,6 @@
 package com.example.Application_Service.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,10 +21,24 @@ public class PagedResponse<T> {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PaginationInfo {
-        private int page;
+        private Integer page;
         private int limit;
-        private long total;
-        private int totalPages;
+        private Long total;
+        private Integer totalPages;
+
+        // Cursor mode: page/totalPages are omitted, total only when requested
+        private String nextCursor;
+        private Boolean hasMore;
+
+        public static PaginationInfo forCursor(int limit, String nextCursor, Long total) {
+            return PaginationInfo.builder()
+                .limit(limit)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor != null)
+                .total(total)
+                .build();
+        }
     }
 }
@@ -0,0 +1,8 @@
+package com.example.Application_Service.exception;
+
+public class ApplicationStatusConflictException extends RuntimeException {
+
+    public ApplicationStatusConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Application_Service.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Application_Service.exception;
+
+public class InvalidExportRequestException extends RuntimeException {
+
+    public InvalidExportRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Application_Service.exception;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
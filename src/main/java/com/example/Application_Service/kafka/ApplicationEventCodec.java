@@ -0,0 +1,28 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+
+/**
+ * Wire encoding of ApplicationEventData. Implementations are stateless and thread-safe.
+ */
+public interface ApplicationEventCodec {
+
+    /**
+     * Record header carrying {@link #contentType()}
+     */
+    String CONTENT_TYPE_HEADER = "content-type";
+
+    /**
+     * Name used in configuration ({@code kafka.codec.<topic>=json|binary})
+     */
+    String name();
+
+    /**
+     * Value of the content-type record header, so consumers can pick the decoder
+     */
+    String contentType();
+
+    byte[] encode(ApplicationEventData eventData);
+
+    ApplicationEventData decode(byte[] payload);
+}
@@ -0,0 +1,50 @@
+package com.example.Application_Service.kafka;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Picks the event codec per topic from {@code kafka.codec.<topic>} (json by default),
+ * and the decoder for a record from its content-type header.
+ */
+@Component
+public class ApplicationEventCodecs {
+
+    private final Environment environment;
+    private final Map<String, ApplicationEventCodec> byName;
+    private final Map<String, ApplicationEventCodec> byContentType;
+
+    public ApplicationEventCodecs(Environment environment, List<ApplicationEventCodec> codecs) {
+        this.environment = environment;
+        this.byName = codecs.stream().collect(Collectors.toMap(ApplicationEventCodec::name, Function.identity()));
+        this.byContentType = codecs.stream().collect(Collectors.toMap(ApplicationEventCodec::contentType, Function.identity()));
+    }
+
+    public ApplicationEventCodec forTopic(String topic) {
+        String name = environment.getProperty("kafka.codec." + topic, JsonApplicationEventCodec.NAME);
+        ApplicationEventCodec codec = byName.get(name);
+        if (codec == null) {
+            throw new IllegalStateException("Unknown event codec '" + name + "' configured for topic " + topic);
+        }
+        return codec;
+    }
+
+    /**
+     * Decoder for a record; records without a content-type header are JSON
+     */
+    public ApplicationEventCodec forContentType(String contentType) {
+        if (contentType == null) {
+            return byName.get(JsonApplicationEventCodec.NAME);
+        }
+        ApplicationEventCodec codec = byContentType.get(contentType);
+        if (codec == null) {
+            throw new IllegalArgumentException("Unknown application event content type: " + contentType);
+        }
+        return codec;
+    }
+}
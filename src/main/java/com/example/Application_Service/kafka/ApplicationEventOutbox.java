@@ -0,0 +1,50 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes application events to the outbox table in the caller's transaction.
+ * The event becomes visible to the relay only if the state change commits, and
+ * request threads never wait on Kafka; see OutboxRelay for delivery.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO application_outbox (topic, event_key, event_type, payload, content_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProfileEventProducer profileEventProducer;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(ApplicationEventData eventData) {
+        enqueueAll(List.of(eventData));
+    }
+
+    /**
+     * Enqueue several events with one JDBC batch; relay order follows list order
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<ApplicationEventData> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, eventData) -> {
+            ProfileEventProducer.EncodedEvent encoded = profileEventProducer.encode(eventData);
+            ps.setString(1, encoded.topic());
+            ps.setString(2, encoded.key());
+            ps.setString(3, eventData.getEventType());
+            ps.setBytes(4, encoded.payload());
+            ps.setString(5, encoded.contentType());
+        });
+    }
+}
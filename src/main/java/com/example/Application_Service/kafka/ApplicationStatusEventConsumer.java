@@ -0,0 +1,50 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.config.KafkaConfig;
+import com.example.Application_Service.dto.ApplicationEventData;
+import com.example.Application_Service.service.ApplicationStatusStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Feeds the SSE status stream from the application-events topic.
+ *
+ * Every node must see every event (the seeker's connection can be on any node), so each node has
+ * its own group, named after its instance id (see KafkaConfig.INSTANCE_ID). A new group starts at
+ * the latest offset: events from before its first start are not replayed, clients resync instead.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatusEventConsumer {
+
+    private final ApplicationEventCodecs codecs;
+    private final ApplicationStatusStream statusStream;
+
+    @KafkaListener(
+        topics = ProfileEventProducer.APPLICATION_EVENTS_TOPIC,
+        groupId = "${sse.consumer-group-prefix:application-status-stream}-" + KafkaConfig.INSTANCE_ID,
+        containerFactory = "eventListenerContainerFactory",
+        properties = "auto.offset.reset=latest"
+    )
+    public void consume(ConsumerRecord<String, byte[]> record) {
+        try {
+            Header contentType = record.headers().lastHeader(ApplicationEventCodec.CONTENT_TYPE_HEADER);
+            ApplicationEventCodec codec = codecs.forContentType(
+                contentType != null ? new String(contentType.value(), StandardCharsets.UTF_8) : null);
+            ApplicationEventData eventData = codec.decode(record.value());
+
+            // Events are keyed by user, so a user's events share a partition and its order on every node
+            statusStream.publish(record.partition(), record.offset(), eventData);
+        } catch (Exception e) {
+            log.error("Error dispatching application event at {}-{}: {}",
+                record.partition(), record.offset(), e.getMessage(), e);
+        }
+    }
+}
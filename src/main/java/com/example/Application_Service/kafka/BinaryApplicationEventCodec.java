@@ -0,0 +1,212 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact binary encoding of application events.
+ *
+ * Layout (version 1):
+ * <pre>
+ *   magic (1 byte, 0xAE) | schema version (1 byte) | presence bitmask (varint, bit per field)
+ *   then every present field in schema order:
+ *     eventType   : 1 byte code (see EVENT_TYPES), code 0 followed by the name as a string
+ *     jobId       : zigzag varint
+ *     timestamp   : varint epoch second (UTC) + varint nano of second
+ *     other fields: varint byte length + UTF-8 bytes
+ * </pre>
+ * New fields are only ever appended with a new bit; a version bump is required for anything else.
+ */
+@Component
+public class BinaryApplicationEventCodec implements ApplicationEventCodec {
+
+    public static final String NAME = "binary";
+    public static final String CONTENT_TYPE = "application/vnd.jobhub.application-event+binary";
+
+    static final byte MAGIC = (byte) 0xAE;
+    static final byte VERSION = 1;
+
+    // Index = code (append only); code 0 means "name follows as a string"
+    private static final String[] EVENT_TYPES = {
+        null,
+        "APPLICATION_SUBMITTED",
+        "APPLICATION_WITHDRAWN",
+        "APPLICATION_STATUS_UPDATED",
+        "RESUME_VIEWED"
+    };
+
+    // Schema field order; bit i of the presence mask refers to field i
+    private static final int EVENT_TYPE = 0;
+    private static final int APPLICATION_ID = 1;
+    private static final int JOB_ID = 2;
+    private static final int JOB_TITLE = 3;
+    private static final int COMPANY_NAME = 4;
+    private static final int COMPANY_ID = 5;
+    private static final int EMPLOYER_ID = 6;
+    private static final int USER_ID = 7;
+    private static final int APPLICANT_NAME = 8;
+    private static final int APPLICANT_EMAIL = 9;
+    private static final int RESUME_ID = 10;
+    private static final int STATUS = 11;
+    private static final int APPLIED_DATE = 12;
+    private static final int TIMESTAMP = 13;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(ApplicationEventData e) {
+        Object[] fields = {
+            e.getEventType(), e.getApplicationId(), e.getJobId(), e.getJobTitle(), e.getCompanyName(),
+            e.getCompanyId(), e.getEmployerId(), e.getUserId(), e.getApplicantName(), e.getApplicantEmail(),
+            e.getResumeId(), e.getStatus(), e.getAppliedDate(), e.getTimestamp()
+        };
+        long presence = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                presence |= 1L << i;
+            }
+        }
+        
+        EventBuffer buffer = EventBuffer.acquire();
+        buffer.write(MAGIC);
+        buffer.write(VERSION);
+        buffer.writeVarLong(presence);
+        for (int i = 0; i < fields.length; i++) {
+            Object value = fields[i];
+            if (value == null) {
+                continue;
+            }
+            switch (i) {
+                case EVENT_TYPE -> {
+                    int code = eventTypeCode((String) value);
+                    buffer.write(code);
+                    if (code == 0) {
+                        buffer.writeString((String) value);
+                    }
+                }
+                case JOB_ID -> {
+                    long jobId = (Long) value;
+                    buffer.writeVarLong((jobId << 1) ^ (jobId >> 63));
+                }
+                case TIMESTAMP -> {
+                    LocalDateTime timestamp = (LocalDateTime) value;
+                    buffer.writeVarLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+                    buffer.writeVarLong(timestamp.getNano());
+                }
+                default -> buffer.writeString((String) value);
+            }
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public ApplicationEventData decode(byte[] payload) {
+        if (payload.length < 3 || payload[0] != MAGIC) {
+            throw new IllegalArgumentException("Not a binary application event");
+        }
+        if (payload[1] != VERSION) {
+            throw new IllegalArgumentException("Unsupported application event schema version: " + payload[1]);
+        }
+        
+        Reader in = new Reader(payload, 2);
+        long presence = in.varLong();
+        ApplicationEventData e = new ApplicationEventData();
+        for (int i = 0; i <= TIMESTAMP; i++) {
+            if ((presence & (1L << i)) == 0) {
+                continue;
+            }
+            switch (i) {
+                case EVENT_TYPE -> {
+                    int code = in.next();
+                    if (code >= EVENT_TYPES.length) {
+                        // Written by a newer producer; its name would have been sent as a string
+                        throw new IllegalArgumentException("Unknown application event type code: " + code);
+                    }
+                    e.setEventType(code == 0 ? in.string() : EVENT_TYPES[code]);
+                }
+                case APPLICATION_ID -> e.setApplicationId(in.string());
+                case JOB_ID -> {
+                    long zigzag = in.varLong();
+                    e.setJobId((zigzag >>> 1) ^ -(zigzag & 1));
+                }
+                case JOB_TITLE -> e.setJobTitle(in.string());
+                case COMPANY_NAME -> e.setCompanyName(in.string());
+                case COMPANY_ID -> e.setCompanyId(in.string());
+                case EMPLOYER_ID -> e.setEmployerId(in.string());
+                case USER_ID -> e.setUserId(in.string());
+                case APPLICANT_NAME -> e.setApplicantName(in.string());
+                case APPLICANT_EMAIL -> e.setApplicantEmail(in.string());
+                case RESUME_ID -> e.setResumeId(in.string());
+                case STATUS -> e.setStatus(in.string());
+                case APPLIED_DATE -> e.setAppliedDate(in.string());
+                case TIMESTAMP -> {
+                    long epochSecond = in.varLong();
+                    int nano = (int) in.varLong();
+                    e.setTimestamp(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+                }
+                default -> throw new IllegalStateException("Unknown field " + i);
+            }
+        }
+        return e;
+    }
+
+    private static int eventTypeCode(String eventType) {
+        for (int code = 1; code < EVENT_TYPES.length; code++) {
+            if (EVENT_TYPES[code].equals(eventType)) {
+                return code;
+            }
+        }
+        return 0;
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private int next() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Truncated application event");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        private long varLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in application event");
+        }
+
+        private String string() {
+            int length = (int) varLong();
+            if (length < 0 || position + length > bytes.length) {
+                throw new IllegalArgumentException("Truncated application event");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.Application_Service.kafka;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer reused per thread by the event codecs, so encoding an event
+ * allocates only the final byte[] handed to Kafka. Buffers that grew past
+ * MAX_RETAINED are dropped instead of being kept for the next event.
+ */
+final class EventBuffer extends OutputStream {
+
+    private static final int INITIAL_SIZE = 512;
+    private static final int MAX_RETAINED = 64 * 1024;
+
+    private static final ThreadLocal<EventBuffer> POOL = ThreadLocal.withInitial(EventBuffer::new);
+
+    private byte[] buf = new byte[INITIAL_SIZE];
+    private int count;
+
+    /**
+     * The calling thread's buffer, emptied
+     */
+    static EventBuffer acquire() {
+        EventBuffer buffer = POOL.get();
+        if (buffer.buf.length > MAX_RETAINED) {
+            buffer.buf = new byte[INITIAL_SIZE];
+        }
+        buffer.count = 0;
+        return buffer;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buf, count, length);
+        count += length;
+    }
+
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buf[count++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[count++] = (byte) value;
+    }
+
+    void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        write(bytes, 0, bytes.length);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (count + extra > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + extra));
+        }
+    }
+}
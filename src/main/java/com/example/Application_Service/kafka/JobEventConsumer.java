@@ -0,0 +1,89 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.config.KafkaConfig;
+import com.example.Application_Service.dto.JobEventData;
+import com.example.Application_Service.search.JobChangedEvent;
+import com.example.Application_Service.service.JobStatusCache;
+import com.example.Application_Service.service.MetricsSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Applies job changes made on other nodes to this node's caches.
+ *
+ * Every node must see every event, so each node has its own group, named after its instance id
+ * (see KafkaConfig.INSTANCE_ID). A new group starts at the latest offset (caches are empty or
+ * TTL-bounded at startup, nothing to replay); a restarted node resumes its group. The job
+ * status cache entry is dropped, and the change is republished locally as a JobChangedEvent, which
+ * re-indexes the job for search and evicts its cached response exactly as for a local write.
+ * Events this node wrote itself are skipped: it applied them after its own commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobEventConsumer implements MetricsSource {
+
+    private final JobEventOutbox jobEventOutbox;
+    private final JobStatusCache jobStatusCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMapper jsonMapper;
+
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong lastLagMs = new AtomicLong();
+
+    @KafkaListener(
+        topics = JobEventOutbox.JOB_EVENTS_TOPIC,
+        groupId = "${jobs.events.consumer-group-prefix:job-cache-invalidation}-" + KafkaConfig.INSTANCE_ID,
+        containerFactory = "eventListenerContainerFactory",
+        properties = "auto.offset.reset=latest"
+    )
+    public void consume(ConsumerRecord<String, byte[]> record) {
+        try {
+            JobEventData event = jsonMapper.readValue(record.value(), JobEventData.class);
+            if (jobEventOutbox.nodeId().equals(event.getOrigin())) {
+                skipped.increment();
+                return;
+            }
+            if (event.getTimestamp() != null) {
+                lastLagMs.set(Math.max(0, Duration.between(event.getTimestamp(), LocalDateTime.now()).toMillis()));
+            }
+
+            jobStatusCache.evict(event.getJobId());
+            eventPublisher.publishEvent(new JobChangedEvent(event.getJobId()));
+            applied.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Error applying job event at {}-{}: {}",
+                record.partition(), record.offset(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "jobEvents";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("applied", applied.sum());
+        metrics.put("skippedOwn", skipped.sum());
+        metrics.put("failed", failed.sum());
+        metrics.put("lastLagMs", lastLagMs.get());
+        return metrics;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.domain.entity.Job;
+import com.example.Application_Service.dto.JobEventData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Writes job change events for the job-events topic to the outbox table in the caller's
+ * transaction; OutboxRelay delivers them like application events. Keyed by job id, so the
+ * events of one job stay in order. JobEventConsumer applies them on the other nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobEventOutbox {
+
+    static final String JOB_EVENTS_TOPIC = "job-events";
+    static final String CONTENT_TYPE = "application/json";
+
+    public static final String JOB_CREATED = "JOB_CREATED";
+    public static final String JOB_UPDATED = "JOB_UPDATED";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO application_outbox (topic, event_key, event_type, payload, content_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    // Identifies this instance in the events it writes, so its own consumer can skip them
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Build the event for a job as saved (updatedAt set); {@code changedFields} may be null
+     */
+    public JobEventData event(String eventType, Job job, List<String> changedFields) {
+        return JobEventData.builder()
+                .eventType(eventType)
+                .jobId(job.getId())
+                .version(JobEventData.version(job.getUpdatedAt()))
+                .status(job.getStatus())
+                .changedFields(changedFields)
+                .origin(nodeId)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(JobEventData event) {
+        enqueueAll(List.of(event));
+    }
+
+    /**
+     * Enqueue several events with one JDBC batch
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(List<JobEventData> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, JOB_EVENTS_TOPIC);
+            ps.setString(2, String.valueOf(event.getJobId()));
+            ps.setString(3, event.getEventType());
+            ps.setBytes(4, jsonMapper.writeValueAsBytes(event));
+            ps.setString(5, CONTENT_TYPE);
+        });
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * JSON encoding of application events, field for field the payload documented for the
+ * application-events topic. Written with Jackson's streaming generator (proper escaping,
+ * no intermediate Map) into a per-thread EventBuffer.
+ */
+@Component
+public class JsonApplicationEventCodec implements ApplicationEventCodec {
+
+    public static final String NAME = "json";
+    public static final String CONTENT_TYPE = "application/json";
+
+    // Thread-safe once configured; also recycles Jackson's internal buffers per thread
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(ApplicationEventData eventData) {
+        EventBuffer buffer = EventBuffer.acquire();
+        try (JsonGenerator generator = FACTORY.createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeStringField("eventType", eventData.getEventType());
+            generator.writeStringField("applicationId", eventData.getApplicationId());
+            if (eventData.getJobId() != null) {
+                generator.writeNumberField("jobId", eventData.getJobId());
+            } else {
+                generator.writeNullField("jobId");
+            }
+            generator.writeStringField("jobTitle", eventData.getJobTitle());
+            generator.writeStringField("companyName", eventData.getCompanyName());
+            generator.writeStringField("companyId", eventData.getCompanyId());
+            generator.writeStringField("employerId", eventData.getEmployerId());
+            generator.writeStringField("userId", eventData.getUserId());
+            generator.writeStringField("applicantName", eventData.getApplicantName());
+            generator.writeStringField("applicantEmail", eventData.getApplicantEmail());
+            generator.writeStringField("resumeId", eventData.getResumeId());
+            generator.writeStringField("status", eventData.getStatus());
+            generator.writeStringField("appliedDate", eventData.getAppliedDate());
+            if (eventData.getTimestamp() != null) {
+                generator.writeStringField("timestamp", eventData.getTimestamp().toString());
+            } else {
+                generator.writeNumberField("timestamp", System.currentTimeMillis());
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode application event", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Override
+    public ApplicationEventData decode(byte[] payload) {
+        ApplicationEventData eventData = new ApplicationEventData();
+        try (JsonParser parser = FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Application event is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "eventType" -> eventData.setEventType(parser.getText());
+                    case "applicationId" -> eventData.setApplicationId(parser.getText());
+                    case "jobId" -> eventData.setJobId(parser.getValueAsLong());
+                    case "jobTitle" -> eventData.setJobTitle(parser.getText());
+                    case "companyName" -> eventData.setCompanyName(parser.getText());
+                    case "companyId" -> eventData.setCompanyId(parser.getText());
+                    case "employerId" -> eventData.setEmployerId(parser.getText());
+                    case "userId" -> eventData.setUserId(parser.getText());
+                    case "applicantName" -> eventData.setApplicantName(parser.getText());
+                    case "applicantEmail" -> eventData.setApplicantEmail(parser.getText());
+                    case "resumeId" -> eventData.setResumeId(parser.getText());
+                    case "coverLetter" -> eventData.setCoverLetter(parser.getText());
+                    case "status" -> eventData.setStatus(parser.getText());
+                    case "appliedDate" -> eventData.setAppliedDate(parser.getText());
+                    case "timestamp" -> eventData.setTimestamp(value == JsonToken.VALUE_STRING
+                        ? LocalDateTime.parse(parser.getText())
+                        : LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneId.systemDefault()));
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed application event JSON", e);
+        }
+        return eventData;
+    }
+}
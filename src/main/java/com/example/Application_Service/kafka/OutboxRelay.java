@@ -0,0 +1,247 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.service.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the outbox table to Kafka.
+ *
+ * Events are split into {@code outbox.relay.parallelism} lanes by a hash of their key, and each lane
+ * is drained by one node at a time across the cluster, which holds a lease on it in
+ * application_outbox_lanes. No transaction or lock is held while waiting on the broker: the lease
+ * is taken (or renewed) in its own statement, rows are sent, and what the broker acknowledged is
+ * deleted in another. A batch is sent in rounds of one event per key, so an event is only sent once
+ * the previous event with its key is acknowledged; when a send fails, that key is not sent further
+ * and its remaining rows stay in the table for the next poll. Delivery is at least once, in key order.
+ * The lease lasts twice {@code outbox.relay.send-timeout-ms}; a node stalled for longer, or a change
+ * of the lane count while old nodes are still relaying, can briefly reorder events of one key.
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements MetricsSource {
+
+    private static final String PENDING_SQL = """
+        SELECT EXISTS (SELECT 1 FROM application_outbox WHERE (hashtext(event_key) & 2147483647) % ? = ?)
+        """;
+
+    private static final String LANE_SQL = """
+        SELECT id, topic, event_key, payload, content_type, created_at
+        FROM application_outbox
+        WHERE (hashtext(event_key) & 2147483647) % ? = ?
+        ORDER BY id
+        LIMIT ?
+        """;
+
+    // Takes the lane if it is free, expired or already ours; 1 row when this node holds it
+    private static final String LEASE_SQL = """
+        INSERT INTO application_outbox_lanes (lane, owner, leased_until)
+        VALUES (?, ?, CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond')
+        ON CONFLICT (lane) DO UPDATE SET owner = EXCLUDED.owner, leased_until = EXCLUDED.leased_until
+        WHERE application_outbox_lanes.owner = EXCLUDED.owner
+           OR application_outbox_lanes.leased_until < CURRENT_TIMESTAMP
+        """;
+
+    private static final String RELEASE_SQL =
+        "UPDATE application_outbox_lanes SET leased_until = CURRENT_TIMESTAMP WHERE lane = ? AND owner = ?";
+
+    private static final String BACKLOG_SQL = "SELECT COUNT(*), MIN(created_at) FROM application_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final TaskExecutor executor;
+
+    private final int parallelism;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+    private final String owner = UUID.randomUUID().toString();
+
+    private final AtomicBoolean[] laneBusy;
+    private final AtomicLongArray laneLagMs;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       @Qualifier("outboxRelayExecutor") TaskExecutor executor,
+                       @Value("${outbox.relay.parallelism:4}") int parallelism,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.send-timeout-ms:30000}") long sendTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.laneBusy = new AtomicBoolean[parallelism];
+        for (int lane = 0; lane < parallelism; lane++) {
+            laneBusy[lane] = new AtomicBoolean();
+        }
+        this.laneLagMs = new AtomicLongArray(parallelism);
+    }
+
+    /**
+     * Start a drain for every lane that is not already being drained on this node
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:200}")
+    public void poll() {
+        for (int lane = 0; lane < parallelism; lane++) {
+            AtomicBoolean busy = laneBusy[lane];
+            if (!busy.compareAndSet(false, true)) {
+                continue;
+            }
+            int current = lane;
+            try {
+                executor.execute(() -> {
+                    try {
+                        drainLane(current);
+                    } catch (Exception e) {
+                        log.error("Outbox relay lane {} failed: {}", current, e.getMessage());
+                    } finally {
+                        busy.set(false);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                busy.set(false);
+            }
+        }
+    }
+
+    private void drainLane(int lane) {
+        // Idle lanes are not leased, so polling them writes nothing
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(PENDING_SQL, Boolean.class, parallelism, lane))) {
+            laneLagMs.set(lane, 0);
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch(lane);
+            } while (relayed == batchSize);
+        } finally {
+            jdbcTemplate.update(RELEASE_SQL, lane, owner);
+        }
+    }
+
+    /**
+     * Send one batch of a lane and delete what the broker acknowledged.
+     * Returns the number of rows removed, or 0 when another node holds the lane or a send failed.
+     */
+    private int relayBatch(int lane) {
+        if (jdbcTemplate.update(LEASE_SQL, lane, owner, 2 * sendTimeoutMs) == 0) {
+            return 0;
+        }
+
+        List<OutboxRow> rows = jdbcTemplate.query(LANE_SQL, (rs, rowNum) -> new OutboxRow(
+            rs.getLong("id"),
+            rs.getString("topic"),
+            rs.getString("event_key"),
+            rs.getBytes("payload"),
+            rs.getString("content_type"),
+            rs.getTimestamp("created_at")), parallelism, lane, batchSize);
+        if (rows.isEmpty()) {
+            laneLagMs.set(lane, 0);
+            return 0;
+        }
+        laneLagMs.set(lane, Math.max(0, System.currentTimeMillis() - rows.get(0).createdAt().getTime()));
+
+        Map<String, ArrayDeque<OutboxRow>> pendingByKey = new LinkedHashMap<>();
+        for (OutboxRow row : rows) {
+            pendingByKey.computeIfAbsent(row.key(), key -> new ArrayDeque<>()).add(row);
+        }
+
+        long deadline = System.currentTimeMillis() + sendTimeoutMs;
+        List<Long> delivered = new ArrayList<>(rows.size());
+        boolean blocked = false;
+        while (!pendingByKey.isEmpty() && System.currentTimeMillis() < deadline) {
+            // The oldest unsent event of every key; the next one of a key waits for this round
+            List<ArrayDeque<OutboxRow>> round = new ArrayList<>(pendingByKey.values());
+            List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(round.size());
+            for (ArrayDeque<OutboxRow> pending : round) {
+                OutboxRow row = pending.peek();
+                try {
+                    sends.add(kafkaTemplate.send(new ProfileEventProducer.EncodedEvent(
+                        row.topic(), row.key(), row.payload(), row.contentType()).toRecord()));
+                } catch (Exception e) {
+                    sends.add(CompletableFuture.failedFuture(e));
+                }
+            }
+            kafkaTemplate.flush();
+
+            for (int i = 0; i < round.size(); i++) {
+                OutboxRow row = round.get(i).poll();
+                try {
+                    sends.get(i).get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                    delivered.add(row.id());
+                    if (round.get(i).isEmpty()) {
+                        pendingByKey.remove(row.key());
+                    }
+                } catch (Exception e) {
+                    // Later events of the key must not overtake this one
+                    pendingByKey.remove(row.key());
+                    blocked = true;
+                    failed.increment();
+                    log.warn("Outbox event {} (key {}) not acknowledged, will retry: {}", row.id(), row.key(), e.getMessage());
+                }
+            }
+        }
+        // Rows left unsent at the deadline are picked up by the next poll
+        blocked |= !pendingByKey.isEmpty();
+
+        if (!delivered.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM application_outbox WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", delivered.toArray())));
+            published.add(delivered.size());
+        }
+
+        return blocked ? 0 : delivered.size();
+    }
+
+    @Override
+    public String metricsName() {
+        return "outbox";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        jdbcTemplate.query(BACKLOG_SQL, rs -> {
+            Timestamp oldest = rs.getTimestamp(2);
+            metrics.put("pending", rs.getLong(1));
+            metrics.put("oldestAgeMs", oldest != null
+                ? Math.max(0, Instant.now().toEpochMilli() - oldest.getTime()) : 0);
+        });
+        metrics.put("published", published.sum());
+        metrics.put("failedSends", failed.sum());
+        List<Long> lag = new ArrayList<>(parallelism);
+        for (int lane = 0; lane < parallelism; lane++) {
+            lag.add(laneLagMs.get(lane));
+        }
+        metrics.put("laneLagMs", lag);
+        return metrics;
+    }
+
+    private record OutboxRow(long id, String topic, String key, byte[] payload, String contentType, Timestamp createdAt) {}
+}
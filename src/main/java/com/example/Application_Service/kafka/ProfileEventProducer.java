@@ -1,18 +1,13 @@
 package com.example.Application_Service.kafka;
 
 import com.example.Application_Service.dto.ApplicationEventData;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.nio.charset.StandardCharsets;
 
 /**
- * Kafka producer for publishing application-related events.
+ * Encoding of application-related events.
  * 
  * Events published:
  * - APPLICATION_SUBMITTED: When a user submits a job application
@@ -21,122 +16,50 @@ import java.util.concurrent.CompletableFuture;
  *
  * Enhanced events include job details, applicant info, and application data
  * for notification service to send meaningful emails.
+ *
+ * Nothing publishes directly: application writes queue events through ApplicationEventOutbox
+ * (using encode/eventKey from here) and OutboxRelay delivers them.
+ * The encoding is chosen per topic (kafka.codec.application-events=json|binary) and named
+ * in the content-type header of every record.
  */
 @Service
 public class ProfileEventProducer {
 
-    private static final Logger logger = LoggerFactory.getLogger(ProfileEventProducer.class);
-    private static final String APPLICATION_EVENTS_TOPIC = "application-events";
+    static final String APPLICATION_EVENTS_TOPIC = "application-events";
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ApplicationEventCodecs codecs;
 
-    public ProfileEventProducer(KafkaTemplate<String, String> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public ProfileEventProducer(ApplicationEventCodecs codecs) {
+        this.codecs = codecs;
     }
 
     /**
-     * Publish an application event to Kafka (legacy method)
-     * 
-     * @param userId The user ID (job seeker)
-     * @param jobId The job ID
-     * @param eventType The type of event (APPLICATION_SUBMITTED, APPLICATION_WITHDRAWN, APPLICATION_STATUS_UPDATED)
-     * @deprecated Use publishEnhancedApplicationEvent() instead for richer event data
+     * Encode an enhanced event for the application-events topic with the codec configured for it
      */
-    @Deprecated
-    public void publishApplicationEvent(String userId, Long jobId, String eventType) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("eventType", eventType);
-        event.put("userId", userId);
-        event.put("jobId", jobId);
-        event.put("timestamp", System.currentTimeMillis());
-
-        String eventJson = convertToJson(event);
-        
-        // Use userId as key for partitioning (ensures events for same user go to same partition)
-        String key = userId + "-" + jobId;
-
-        CompletableFuture<SendResult<String, String>> future = 
-            kafkaTemplate.send(APPLICATION_EVENTS_TOPIC, key, eventJson);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                logger.info("Published {} event for user {} job {} to partition {} offset {}", 
-                    eventType, userId, jobId, 
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
-            } else {
-                logger.error("Failed to publish {} event for user {} job {}: {}", 
-                    eventType, userId, jobId, ex.getMessage());
-            }
-        });
+    public EncodedEvent encode(ApplicationEventData eventData) {
+        ApplicationEventCodec codec = codecs.forTopic(APPLICATION_EVENTS_TOPIC);
+        return new EncodedEvent(APPLICATION_EVENTS_TOPIC, eventKey(eventData), codec.encode(eventData), codec.contentType());
     }
-    
+
     /**
-     * Publish an enhanced application event to Kafka with full details.
-     * Use this method to include job title, company name, applicant details, etc.
-     * 
-     * @param eventData The enhanced event data containing all details
+     * Partition key of an enhanced event: the user, so all of a user's events keep one order
+     * (relay lanes and partition), which the status stream's Last-Event-ID replay relies on
      */
-    public void publishEnhancedApplicationEvent(ApplicationEventData eventData) {
-        Map<String, Object> event = new HashMap<>();
-        event.put("eventType", eventData.getEventType());
-        event.put("applicationId", eventData.getApplicationId());
-        event.put("jobId", eventData.getJobId());
-        event.put("jobTitle", eventData.getJobTitle());
-        event.put("companyName", eventData.getCompanyName());
-        event.put("companyId", eventData.getCompanyId());
-        event.put("employerId", eventData.getEmployerId());
-        event.put("userId", eventData.getUserId());
-        event.put("applicantName", eventData.getApplicantName());
-        event.put("applicantEmail", eventData.getApplicantEmail());
-        event.put("resumeId", eventData.getResumeId());
-        event.put("status", eventData.getStatus());
-        event.put("appliedDate", eventData.getAppliedDate());
-        event.put("timestamp", eventData.getTimestamp() != null ? 
-            eventData.getTimestamp().toString() : System.currentTimeMillis());
-
-        String eventJson = convertToJson(event);
-        
-        // Use userId as key for partitioning (ensures events for same user go to same partition)
-        String key = eventData.getUserId() + "-" + eventData.getJobId();
-
-        CompletableFuture<SendResult<String, String>> future = 
-            kafkaTemplate.send(APPLICATION_EVENTS_TOPIC, key, eventJson);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                logger.info("Published enhanced {} event for application {} to partition {} offset {}", 
-                    eventData.getEventType(), eventData.getApplicationId(),
-                    result.getRecordMetadata().partition(),
-                    result.getRecordMetadata().offset());
-            } else {
-                logger.error("Failed to publish enhanced {} event for application {}: {}", 
-                    eventData.getEventType(), eventData.getApplicationId(), ex.getMessage());
-            }
-        });
+    public String eventKey(ApplicationEventData eventData) {
+        return eventData.getUserId();
     }
 
     /**
-     * Simple JSON conversion for events
-     * Note: In production, use Jackson/ObjectMapper for proper serialization
+     * An event ready to be sent: destination, key, payload and the content type naming its codec
      */
-    private String convertToJson(Map<String, Object> event) {
-        StringBuilder json = new StringBuilder("{");
-        int count = 0;
-        for (Map.Entry<String, Object> entry : event.entrySet()) {
-            if (count > 0) {
-                json.append(",");
-            }
-            json.append("\"").append(entry.getKey()).append("\":");
-            Object value = entry.getValue();
-            if (value instanceof String) {
-                json.append("\"").append(value).append("\"");
-            } else {
-                json.append(value);
+    public record EncodedEvent(String topic, String key, byte[] payload, String contentType) {
+
+        public ProducerRecord<String, byte[]> toRecord() {
+            ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, payload);
+            if (contentType != null) {
+                record.headers().add(ApplicationEventCodec.CONTENT_TYPE_HEADER, contentType.getBytes(StandardCharsets.UTF_8));
             }
-            count++;
+            return record;
         }
-        json.append("}");
-        return json.toString();
     }
 }
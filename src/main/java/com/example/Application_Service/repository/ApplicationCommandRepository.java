@@ -0,0 +1,344 @@
+package com.example.Application_Service.repository;
+
+import com.example.Application_Service.domain.entity.Application;
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.repository.projection.ApplicationTransition;
+import com.example.Application_Service.repository.projection.ResumeAccess;
+import com.example.Application_Service.repository.projection.StatusChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Write-side statements for applications that JPA cannot express as a single round trip.
+ *
+ * Status changes run as one conditional UPDATE: the row is locked in a sub-select so the
+ * previous status can be returned, the new status is only written when the current one is
+ * an allowed predecessor, and ownership is checked in the same statement. A lost race or an
+ * invalid transition therefore shows up as zero rows instead of an overwritten status.
+ *
+ * Every write also refreshes the changed rows in application_view, in the same transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationCommandRepository {
+
+    private static final String TRANSITION_SQL = """
+        UPDATE applications a
+        SET status = :to,
+            updated_at = CURRENT_TIMESTAMP,
+            rejection_reason = CASE WHEN :to = 'REJECTED' AND CAST(:reason AS TEXT) IS NOT NULL
+                                    THEN CAST(:reason AS TEXT) ELSE a.rejection_reason END,
+            withdrawn_date = CASE WHEN :to = 'WITHDRAWN' THEN LOCALTIMESTAMP ELSE a.withdrawn_date END
+        FROM (SELECT id, status FROM applications WHERE id = :id FOR UPDATE) prev, job j
+        WHERE a.id = prev.id
+          AND j.id = a.job_id
+          AND prev.status IN (:from)
+          AND %s
+        RETURNING prev.status AS previous_status, a.id, a.user_id, a.job_id, a.status, a.applied_date,
+                  a.resume_id, a.cover_letter, a.rejection_reason, a.created_at, a.updated_at,
+                  a.applicant_name, a.applicant_email,
+                  j.title AS job_title, j.company AS job_company, j.company_id AS job_company_id,
+                  j.employer_id AS job_employer_id, j.logo AS job_logo, j.location AS job_location,
+                  j.type AS job_type, j.salary AS job_salary, j.posted_date AS job_posted_date,
+                  j.description AS job_description, j.status AS job_status, j.seniority AS job_seniority
+        """;
+
+    private static final String EMPLOYER_TRANSITION_SQL = TRANSITION_SQL.formatted("j.employer_id = :actorId");
+    private static final String APPLICANT_TRANSITION_SQL = TRANSITION_SQL.formatted("a.user_id = :actorId");
+
+    private static final String BULK_TRANSITION_SQL = """
+        UPDATE applications a
+        SET status = :to,
+            updated_at = CURRENT_TIMESTAMP,
+            rejection_reason = CASE WHEN :to = 'REJECTED' AND CAST(:reason AS TEXT) IS NOT NULL
+                                    THEN CAST(:reason AS TEXT) ELSE a.rejection_reason END
+        FROM (SELECT id, status FROM applications
+              WHERE id IN (:ids) AND job_id = :jobId
+              ORDER BY id
+              FOR UPDATE) prev
+        WHERE a.id = prev.id
+          AND prev.status IN (:from)
+        RETURNING prev.status AS previous_status, a.id, a.user_id, a.applicant_name, a.applicant_email
+        """;
+
+    private static final String CHUNK_TRANSITION_SQL = """
+        UPDATE applications a
+        SET status = :to,
+            updated_at = CURRENT_TIMESTAMP,
+            rejection_reason = CASE WHEN :to = 'REJECTED' AND CAST(:reason AS TEXT) IS NOT NULL
+                                    THEN CAST(:reason AS TEXT) ELSE a.rejection_reason END
+        FROM (SELECT id, status FROM applications
+              WHERE job_id = :jobId AND status IN (:from)
+              ORDER BY id
+              LIMIT :limit
+              FOR UPDATE%s) prev
+        WHERE a.id = prev.id
+        RETURNING prev.status AS previous_status, a.id, a.user_id, a.applicant_name, a.applicant_email
+        """;
+
+    private static final String CHUNK_TRANSITION_SKIP_LOCKED_SQL = CHUNK_TRANSITION_SQL.formatted(" SKIP LOCKED");
+    private static final String CHUNK_TRANSITION_WAIT_SQL = CHUNK_TRANSITION_SQL.formatted("");
+
+    private static final String COUNT_IN_STATUSES_SQL = """
+        SELECT COUNT(*) FROM applications WHERE job_id = :jobId AND status IN (:statuses)
+        """;
+
+    private static final String JOB_STATUSES_SQL = """
+        SELECT id, status FROM applications WHERE id IN (:ids) AND job_id = :jobId
+        """;
+
+    private static final String INSERT_SQL = """
+        INSERT INTO applications (id, user_id, job_id, status, applied_date, resume_id, resume_data,
+                                  resume_file_name, resume_content_type, cover_letter,
+                                  applicant_name, applicant_email, created_at, updated_at)
+        VALUES (:id, :userId, :jobId, :status, :appliedDate, :resumeId, :resumeData,
+                :resumeFileName, :resumeContentType, :coverLetter,
+                :applicantName, :applicantEmail, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON CONFLICT (user_id, job_id) DO NOTHING
+        RETURNING created_at
+        """;
+
+    private static final String STATE_SQL = """
+        SELECT a.status, a.user_id, j.employer_id
+        FROM applications a LEFT JOIN job j ON j.id = a.job_id
+        WHERE a.id = :id
+        """;
+
+    private static final String RESUME_SQL = """
+        SELECT a.id, a.user_id, a.job_id, a.status, a.applicant_name, a.applicant_email,
+               a.resume_data, a.resume_file_name, a.resume_content_type,
+               j.title, j.company, j.company_id, j.employer_id
+        FROM applications a JOIN job j ON j.id = a.job_id
+        WHERE a.id = :id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationViewProjector viewProjector;
+
+    /**
+     * Current status and owners of an application, used to explain a transition that updated nothing
+     */
+    public record ApplicationState(ApplicationStatus status, String userId, String employerId) {}
+
+    /**
+     * Insert a new application unless the user already applied to the job.
+     * Duplicate detection relies on the unique (user_id, job_id) constraint, so two concurrent
+     * submissions cannot both succeed and no prior SELECT is needed.
+     * 
+     * @return the creation time, or empty when the user had already applied
+     */
+    public Optional<Instant> insertIfAbsent(Application application) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", application.getId())
+            .addValue("userId", application.getUserId())
+            .addValue("jobId", application.getJobId())
+            .addValue("status", application.getStatus().name())
+            .addValue("appliedDate", application.getAppliedDate())
+            .addValue("resumeId", application.getResumeId())
+            .addValue("resumeData", application.getResumeData(), Types.BINARY)
+            .addValue("resumeFileName", application.getResumeFileName())
+            .addValue("resumeContentType", application.getResumeContentType())
+            .addValue("coverLetter", application.getCoverLetter())
+            .addValue("applicantName", application.getApplicantName())
+            .addValue("applicantEmail", application.getApplicantEmail());
+        
+        Optional<Instant> createdAt = jdbcTemplate.query(INSERT_SQL, params, (rs, rowNum) -> toInstant(rs, "created_at"))
+            .stream().findFirst();
+        if (createdAt.isPresent()) {
+            viewProjector.refresh(List.of(application.getId()));
+        }
+        return createdAt;
+    }
+
+    /**
+     * Move an application of one of the employer's jobs to {@code to}
+     */
+    public Optional<ApplicationTransition> transitionAsEmployer(String applicationId, String employerId,
+                                                                ApplicationStatus to, String reason) {
+        return transition(EMPLOYER_TRANSITION_SQL, applicationId, employerId, to, reason);
+    }
+
+    /**
+     * Move one of the applicant's own applications to {@code to}
+     */
+    public Optional<ApplicationTransition> transitionAsApplicant(String applicationId, String userId,
+                                                                 ApplicationStatus to) {
+        return transition(APPLICANT_TRANSITION_SQL, applicationId, userId, to, null);
+    }
+
+    /**
+     * Move every listed application of one job that is in an allowed predecessor status to {@code to}.
+     * Rows are locked in id order so concurrent bulk updates on the same job cannot deadlock.
+     * Ownership of the job must be checked by the caller.
+     */
+    public List<StatusChange> bulkTransition(Long jobId, Collection<String> applicationIds,
+                                             ApplicationStatus to, String reason) {
+        Set<ApplicationStatus> from = to.predecessors();
+        if (from.isEmpty() || applicationIds.isEmpty()) {
+            return List.of();
+        }
+        
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("jobId", jobId)
+            .addValue("ids", applicationIds)
+            .addValue("to", to.name())
+            .addValue("reason", reason)
+            .addValue("from", from.stream().map(Enum::name).toList());
+        
+        return refreshView(jdbcTemplate.query(BULK_TRANSITION_SQL, params, STATUS_CHANGE_MAPPER));
+    }
+
+    /**
+     * Move up to {@code limit} applications of one job that can reach {@code to}.
+     * With {@code skipLocked}, rows held by concurrent single updates are skipped instead of waited on,
+     * so a chunk never queues behind interactive requests; a final pass without it picks up the rest.
+     */
+    public List<StatusChange> transitionChunk(Long jobId, ApplicationStatus to, String reason,
+                                              int limit, boolean skipLocked) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("jobId", jobId)
+            .addValue("to", to.name())
+            .addValue("reason", reason)
+            .addValue("limit", limit)
+            .addValue("from", to.predecessors().stream().map(Enum::name).toList());
+        
+        return refreshView(jdbcTemplate.query(skipLocked ? CHUNK_TRANSITION_SKIP_LOCKED_SQL : CHUNK_TRANSITION_WAIT_SQL,
+            params, STATUS_CHANGE_MAPPER));
+    }
+
+    public long countInStatuses(Long jobId, Collection<ApplicationStatus> statuses) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("jobId", jobId)
+            .addValue("statuses", statuses.stream().map(Enum::name).toList());
+        Long count = jdbcTemplate.queryForObject(COUNT_IN_STATUSES_SQL, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Current status of the listed applications that belong to the job
+     */
+    public Map<String, ApplicationStatus> findStatuses(Long jobId, Collection<String> applicationIds) {
+        Map<String, ApplicationStatus> statuses = new HashMap<>();
+        if (applicationIds.isEmpty()) {
+            return statuses;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("jobId", jobId)
+            .addValue("ids", applicationIds);
+        jdbcTemplate.query(JOB_STATUSES_SQL, params,
+            rs -> { statuses.put(rs.getString("id"), ApplicationStatus.valueOf(rs.getString("status"))); });
+        return statuses;
+    }
+
+    public Optional<ApplicationState> findState(String applicationId) {
+        List<ApplicationState> rows = jdbcTemplate.query(STATE_SQL, new MapSqlParameterSource("id", applicationId),
+            (rs, rowNum) -> new ApplicationState(
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getString("user_id"),
+                rs.getString("employer_id")));
+        return rows.stream().findFirst();
+    }
+
+    public Optional<ResumeAccess> findResume(String applicationId) {
+        List<ResumeAccess> rows = jdbcTemplate.query(RESUME_SQL, new MapSqlParameterSource("id", applicationId),
+            (rs, rowNum) -> new ResumeAccess(
+                rs.getString("id"),
+                rs.getString("user_id"),
+                rs.getLong("job_id"),
+                ApplicationStatus.valueOf(rs.getString("status")),
+                rs.getString("applicant_name"),
+                rs.getString("applicant_email"),
+                rs.getBytes("resume_data"),
+                rs.getString("resume_file_name"),
+                rs.getString("resume_content_type"),
+                rs.getString("title"),
+                rs.getString("company"),
+                rs.getString("company_id"),
+                rs.getString("employer_id")));
+        return rows.stream().findFirst();
+    }
+
+    private Optional<ApplicationTransition> transition(String sql, String applicationId, String actorId,
+                                                       ApplicationStatus to, String reason) {
+        Set<ApplicationStatus> from = to.predecessors();
+        if (from.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", applicationId)
+            .addValue("actorId", actorId)
+            .addValue("to", to.name())
+            .addValue("reason", reason)
+            .addValue("from", from.stream().map(Enum::name).toList());
+        
+        Optional<ApplicationTransition> result = jdbcTemplate.query(sql, params, TRANSITION_MAPPER).stream().findFirst();
+        result.ifPresent(row -> viewProjector.refresh(List.of(row.id())));
+        return result;
+    }
+
+    private List<StatusChange> refreshView(List<StatusChange> changes) {
+        viewProjector.refresh(changes.stream().map(StatusChange::id).toList());
+        return changes;
+    }
+
+    private static final RowMapper<StatusChange> STATUS_CHANGE_MAPPER = (rs, rowNum) -> new StatusChange(
+        rs.getString("id"),
+        rs.getString("user_id"),
+        ApplicationStatus.valueOf(rs.getString("previous_status")),
+        rs.getString("applicant_name"),
+        rs.getString("applicant_email"));
+
+    private static final RowMapper<ApplicationTransition> TRANSITION_MAPPER = (rs, rowNum) -> new ApplicationTransition(
+        rs.getString("id"),
+        rs.getString("user_id"),
+        rs.getLong("job_id"),
+        ApplicationStatus.valueOf(rs.getString("previous_status")),
+        ApplicationStatus.valueOf(rs.getString("status")),
+        toLocalDate(rs.getDate("applied_date")),
+        rs.getString("resume_id"),
+        rs.getString("cover_letter"),
+        rs.getString("rejection_reason"),
+        toInstant(rs, "created_at"),
+        toInstant(rs, "updated_at"),
+        rs.getString("applicant_name"),
+        rs.getString("applicant_email"),
+        rs.getString("job_title"),
+        rs.getString("job_company"),
+        rs.getString("job_company_id"),
+        rs.getString("job_employer_id"),
+        rs.getString("job_logo"),
+        rs.getString("job_location"),
+        rs.getString("job_type"),
+        rs.getString("job_salary"),
+        toLocalDate(rs.getDate("job_posted_date")),
+        rs.getString("job_description"),
+        rs.getString("job_status"),
+        rs.getString("job_seniority"));
+
+    private static Instant toInstant(ResultSet rs, String column) throws SQLException {
+        Timestamp value = rs.getTimestamp(column);
+        return value != null ? value.toInstant() : null;
+    }
+
+    private static LocalDate toLocalDate(Date value) {
+        return value != null ? value.toLocalDate() : null;
+    }
+}
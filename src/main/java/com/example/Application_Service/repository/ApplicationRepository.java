@@ -2,6 +2,7 @@ package com.example.Application_Service.repository;
 
 import com.example.Application_Service.domain.entity.Application;
 import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.repository.projection.ApplicationSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +18,13 @@ import java.util.Optional;
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, String> {
 
+    // List projection: only the columns ApplicationResponse uses, job summary joined in the same query
+    String SUMMARY_SELECT = "SELECT new com.example.Application_Service.repository.projection.ApplicationSummary(" +
+        "a.id, a.userId, a.jobId, a.status, a.appliedDate, a.resumeId, a.createdAt, a.updatedAt, " +
+        "a.applicantName, a.applicantEmail, j.title, j.company, j.companyId, j.employerId, j.logo, " +
+        "j.location, j.type, j.salary, j.postedDate, j.status, j.seniority) " +
+        "FROM Application a LEFT JOIN Job j ON j.id = a.jobId ";
+
     Optional<Application> findByUserIdAndJobId(String userId, Long jobId);
 
     boolean existsByUserIdAndJobId(String userId, Long jobId);
@@ -32,6 +41,19 @@ public interface ApplicationRepository extends JpaRepository<Application, String
 
     @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.userId = :userId GROUP BY a.status")
     List<Object[]> countByStatusGrouped(@Param("userId") String userId);
+
+    @Query("SELECT a.appliedDate, COUNT(a) FROM Application a WHERE a.userId = :userId AND a.appliedDate > :since GROUP BY a.appliedDate")
+    List<Object[]> countByAppliedDateGrouped(@Param("userId") String userId, @Param("since") LocalDate since);
+
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.jobId = :jobId GROUP BY a.status")
+    List<Object[]> countByJobIdGroupedByStatus(@Param("jobId") Long jobId);
+
+    @Query("SELECT DISTINCT a.jobId FROM Application a WHERE a.jobId > :afterJobId ORDER BY a.jobId")
+    List<Long> findJobIdsAfter(@Param("afterJobId") Long afterJobId, Pageable limit);
+
+    // Distinct applicants in user id order, for batch jobs that walk every user
+    @Query("SELECT DISTINCT a.userId FROM Application a WHERE a.userId > :afterUserId ORDER BY a.userId")
+    List<String> findUserIdsAfter(@Param("afterUserId") String afterUserId, Pageable limit);
     
     // Employer queries - applications for a specific job
     Page<Application> findByJobId(Long jobId, Pageable pageable);
@@ -43,6 +65,55 @@ public interface ApplicationRepository extends JpaRepository<Application, String
     // Count applications by job and status
     long countByJobIdAndStatus(Long jobId, ApplicationStatus status);
     
+    // Summary queries for the seeker and employer list endpoints
+    @Query(value = SUMMARY_SELECT + "WHERE a.userId = :userId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.userId = :userId")
+    Page<ApplicationSummary> findSummariesByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.jobId = :jobId",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobId = :jobId")
+    Page<ApplicationSummary> findSummariesByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.jobId = :jobId AND a.status = :status",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobId = :jobId AND a.status = :status")
+    Page<ApplicationSummary> findSummariesByJobIdAndStatus(@Param("jobId") Long jobId,
+                                                           @Param("status") ApplicationStatus status,
+                                                           Pageable pageable);
+
+
+    // Keyset (cursor) pages, newest first; pageable only carries the row limit
+    String KEYSET_ORDER = " ORDER BY a.createdAt DESC, a.id DESC";
+
+    @Query(SUMMARY_SELECT + "WHERE a.userId = :userId" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByUserIdFirst(@Param("userId") String userId, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.userId = :userId AND (a.createdAt, a.id) < (:createdAt, :id)" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByUserIdBefore(@Param("userId") String userId,
+                                                         @Param("createdAt") Instant createdAt,
+                                                         @Param("id") String id,
+                                                         Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.jobId = :jobId" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdFirst(@Param("jobId") Long jobId, Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.jobId = :jobId AND (a.createdAt, a.id) < (:createdAt, :id)" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdBefore(@Param("jobId") Long jobId,
+                                                        @Param("createdAt") Instant createdAt,
+                                                        @Param("id") String id,
+                                                        Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.jobId = :jobId AND a.status = :status" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdAndStatusFirst(@Param("jobId") Long jobId,
+                                                                @Param("status") ApplicationStatus status,
+                                                                Pageable limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.jobId = :jobId AND a.status = :status AND (a.createdAt, a.id) < (:createdAt, :id)" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdAndStatusBefore(@Param("jobId") Long jobId,
+                                                                 @Param("status") ApplicationStatus status,
+                                                                 @Param("createdAt") Instant createdAt,
+                                                                 @Param("id") String id,
+                                                                 Pageable limit);
+    
     // Find application by resume ID
     Application findByResumeId(String resumeId);
 }
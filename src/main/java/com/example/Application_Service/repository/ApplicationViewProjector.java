@@ -0,0 +1,139 @@
+package com.example.Application_Service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps application_view in step with applications and job.
+ *
+ * Callers run these statements in the transaction that changed the source rows, so the view
+ * commits or rolls back with them. Rows are written in id order, the same order the
+ * transition statements lock applications in, so a job update and a bulk transition on the
+ * same job cannot deadlock on view rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationViewProjector {
+
+    // View column -> source expression (applications a LEFT JOIN job j)
+    private static final List<String[]> COLUMNS = List.of(
+        new String[] {"id", "a.id"},
+        new String[] {"user_id", "a.user_id"},
+        new String[] {"job_id", "a.job_id"},
+        new String[] {"status", "a.status"},
+        new String[] {"applied_date", "a.applied_date"},
+        new String[] {"resume_id", "a.resume_id"},
+        new String[] {"created_at", "a.created_at"},
+        new String[] {"updated_at", "a.updated_at"},
+        new String[] {"applicant_name", "a.applicant_name"},
+        new String[] {"applicant_email", "a.applicant_email"},
+        new String[] {"job_title", "j.title"},
+        new String[] {"job_company", "j.company"},
+        new String[] {"job_company_id", "j.company_id"},
+        new String[] {"job_employer_id", "j.employer_id"},
+        new String[] {"job_logo", "j.logo"},
+        new String[] {"job_location", "j.location"},
+        new String[] {"job_type", "j.type"},
+        new String[] {"job_salary", "j.salary"},
+        new String[] {"job_posted_date", "j.posted_date"},
+        new String[] {"job_status", "j.status"},
+        new String[] {"job_seniority", "j.seniority"});
+
+    private static final List<String[]> JOB_COLUMNS = COLUMNS.stream()
+        .filter(c -> c[1].startsWith("j."))
+        .toList();
+
+    private static final List<String[]> MUTABLE_COLUMNS = COLUMNS.stream()
+        .filter(c -> !c[0].equals("id"))
+        .toList();
+
+    // Upsert from the source rows; unchanged rows are not rewritten, so the count is rows repaired
+    private static final String REFRESH_SQL = """
+        INSERT INTO application_view (%s)
+        SELECT %s
+        FROM applications a LEFT JOIN job j ON j.id = a.job_id
+        WHERE a.id IN (:ids)
+        ORDER BY a.id
+        ON CONFLICT (id) DO UPDATE SET %s
+        WHERE (%s) IS DISTINCT FROM (%s)
+        """.formatted(
+            join(COLUMNS, 0, ""),
+            join(COLUMNS, 1, ""),
+            MUTABLE_COLUMNS.stream().map(c -> c[0] + " = EXCLUDED." + c[0]).collect(Collectors.joining(", ")),
+            join(MUTABLE_COLUMNS, 0, "application_view."),
+            join(MUTABLE_COLUMNS, 0, "EXCLUDED."));
+
+    private static final String REFRESH_JOB_SQL = """
+        UPDATE application_view v
+        SET %s
+        FROM (SELECT id FROM application_view WHERE job_id = :jobId ORDER BY id FOR UPDATE) locked, job j
+        WHERE v.id = locked.id
+          AND j.id = :jobId
+        """.formatted(JOB_COLUMNS.stream().map(c -> c[0] + " = " + c[1]).collect(Collectors.joining(", ")));
+
+    private static final String NEXT_IDS_SQL = """
+        SELECT id FROM applications WHERE id > :after ORDER BY id LIMIT :limit
+        """;
+
+    private static final String DELETE_ORPHANS_SQL = """
+        DELETE FROM application_view v
+        WHERE NOT EXISTS (SELECT 1 FROM applications a WHERE a.id = v.id)
+        """;
+
+    private static final String MISSING_ROWS_SQL = """
+        SELECT EXISTS (SELECT 1 FROM applications a
+                       WHERE NOT EXISTS (SELECT 1 FROM application_view v WHERE v.id = a.id))
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Copy the listed applications (and their job summary) into the view
+     *
+     * @return number of view rows inserted or changed
+     */
+    public int refresh(Collection<String> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(REFRESH_SQL, new MapSqlParameterSource("ids", applicationIds));
+    }
+
+    /**
+     * Copy the job summary of one job into all view rows of its applications
+     */
+    public int refreshJob(Long jobId) {
+        return jdbcTemplate.update(REFRESH_JOB_SQL, new MapSqlParameterSource("jobId", jobId));
+    }
+
+    /**
+     * Next application ids after {@code after}, for walking the whole table in batches
+     */
+    public List<String> findApplicationIdsAfter(String after, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("after", after)
+            .addValue("limit", limit);
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, params, String.class);
+    }
+
+    public int deleteOrphans() {
+        return jdbcTemplate.update(DELETE_ORPHANS_SQL, new MapSqlParameterSource());
+    }
+
+    /**
+     * True when some application has no view row yet (view never backfilled, or only partly)
+     */
+    public boolean hasMissingRows() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(MISSING_ROWS_SQL, new MapSqlParameterSource(), Boolean.class));
+    }
+
+    private static String join(List<String[]> columns, int index, String prefix) {
+        return columns.stream().map(c -> prefix + c[index]).collect(Collectors.joining(", "));
+    }
+}
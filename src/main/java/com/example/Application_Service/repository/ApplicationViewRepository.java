@@ -0,0 +1,82 @@
+package com.example.Application_Service.repository;
+
+import com.example.Application_Service.domain.entity.ApplicationView;
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.repository.projection.ApplicationSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * List queries over application_view. Same shapes as the summary queries in ApplicationRepository,
+ * without the join to job: seeker lists scan (user_id, created_at, id), employer lists
+ * (job_id[, status], created_at, id).
+ */
+@Repository
+public interface ApplicationViewRepository extends JpaRepository<ApplicationView, String> {
+
+    String VIEW_SELECT = "SELECT new com.example.Application_Service.repository.projection.ApplicationSummary(" +
+        "v.id, v.userId, v.jobId, v.status, v.appliedDate, v.resumeId, v.createdAt, v.updatedAt, " +
+        "v.applicantName, v.applicantEmail, v.jobTitle, v.jobCompany, v.jobCompanyId, v.jobEmployerId, v.jobLogo, " +
+        "v.jobLocation, v.jobType, v.jobSalary, v.jobPostedDate, v.jobStatus, v.jobSeniority) " +
+        "FROM ApplicationView v ";
+
+    long countByUserId(String userId);
+
+    long countByJobId(Long jobId);
+
+    long countByJobIdAndStatus(Long jobId, ApplicationStatus status);
+
+    @Query(value = VIEW_SELECT + "WHERE v.userId = :userId",
+           countQuery = "SELECT COUNT(v) FROM ApplicationView v WHERE v.userId = :userId")
+    Page<ApplicationSummary> findSummariesByUserId(@Param("userId") String userId, Pageable pageable);
+
+    @Query(value = VIEW_SELECT + "WHERE v.jobId = :jobId",
+           countQuery = "SELECT COUNT(v) FROM ApplicationView v WHERE v.jobId = :jobId")
+    Page<ApplicationSummary> findSummariesByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    @Query(value = VIEW_SELECT + "WHERE v.jobId = :jobId AND v.status = :status",
+           countQuery = "SELECT COUNT(v) FROM ApplicationView v WHERE v.jobId = :jobId AND v.status = :status")
+    Page<ApplicationSummary> findSummariesByJobIdAndStatus(@Param("jobId") Long jobId,
+                                                           @Param("status") ApplicationStatus status,
+                                                           Pageable pageable);
+
+    // Keyset (cursor) pages, newest first; pageable only carries the row limit
+    String KEYSET_ORDER = " ORDER BY v.createdAt DESC, v.id DESC";
+
+    @Query(VIEW_SELECT + "WHERE v.userId = :userId" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByUserIdFirst(@Param("userId") String userId, Pageable limit);
+
+    @Query(VIEW_SELECT + "WHERE v.userId = :userId AND (v.createdAt, v.id) < (:createdAt, :id)" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByUserIdBefore(@Param("userId") String userId,
+                                                         @Param("createdAt") Instant createdAt,
+                                                         @Param("id") String id,
+                                                         Pageable limit);
+
+    @Query(VIEW_SELECT + "WHERE v.jobId = :jobId" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdFirst(@Param("jobId") Long jobId, Pageable limit);
+
+    @Query(VIEW_SELECT + "WHERE v.jobId = :jobId AND (v.createdAt, v.id) < (:createdAt, :id)" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdBefore(@Param("jobId") Long jobId,
+                                                        @Param("createdAt") Instant createdAt,
+                                                        @Param("id") String id,
+                                                        Pageable limit);
+
+    @Query(VIEW_SELECT + "WHERE v.jobId = :jobId AND v.status = :status" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdAndStatusFirst(@Param("jobId") Long jobId,
+                                                                @Param("status") ApplicationStatus status,
+                                                                Pageable limit);
+
+    @Query(VIEW_SELECT + "WHERE v.jobId = :jobId AND v.status = :status AND (v.createdAt, v.id) < (:createdAt, :id)" + KEYSET_ORDER)
+    List<ApplicationSummary> findSummariesByJobIdAndStatusBefore(@Param("jobId") Long jobId,
+                                                                 @Param("status") ApplicationStatus status,
+                                                                 @Param("createdAt") Instant createdAt,
+                                                                 @Param("id") String id,
+                                                                 Pageable limit);
+}
@@ -0,0 +1,152 @@
+package com.example.Application_Service.repository;
+
+import com.example.Application_Service.domain.entity.Job;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JDBC writes for bulk job ingestion: ids from the job sequence in one round trip, then one
+ * batched upsert for the jobs and one batch per element collection, instead of an IDENTITY
+ * insert plus three collection inserts per job. Runs in the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobBulkRepository {
+
+    // Owned by the IDENTITY column when Hibernate created the table, job_id_seq in schema.sql
+    private static final String ALLOCATE_IDS_SQL =
+        "SELECT nextval(COALESCE(pg_get_serial_sequence('job', 'id'), 'job_id_seq')) FROM generate_series(1, ?)";
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO job (id, employer_id, external_id, title, company, company_id, location, type, salary,
+                         salary_min, salary_max, salary_currency, salary_period, description, status,
+                         seniority, is_remote, education_required, posted_date,
+                         applications_count, views_count, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)
+        ON CONFLICT (employer_id, external_id) DO UPDATE SET
+            title = EXCLUDED.title, company = EXCLUDED.company, company_id = EXCLUDED.company_id,
+            location = EXCLUDED.location, type = EXCLUDED.type, salary = EXCLUDED.salary,
+            salary_min = EXCLUDED.salary_min, salary_max = EXCLUDED.salary_max,
+            salary_currency = EXCLUDED.salary_currency, salary_period = EXCLUDED.salary_period,
+            description = EXCLUDED.description, status = EXCLUDED.status, seniority = EXCLUDED.seniority,
+            is_remote = EXCLUDED.is_remote, education_required = EXCLUDED.education_required,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Serialize bulk ingestions of one employer until the transaction ends, so the id lookup
+     * and the upsert of a batch see the same rows
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockEmployer(String employerId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))", rs -> null, "job-bulk:" + employerId);
+    }
+
+    /**
+     * Ids of the employer's jobs with the given external ids
+     */
+    public Map<String, Long> findIdsByExternalIds(String employerId, Collection<String> externalIds) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT external_id, id FROM job WHERE employer_id = ? AND external_id = ANY(?)",
+            ps -> {
+                ps.setString(1, employerId);
+                ps.setArray(2, ps.getConnection().createArrayOf("varchar", externalIds.toArray()));
+            },
+            rs -> {
+                ids.put(rs.getString("external_id"), rs.getLong("id"));
+            });
+        return ids;
+    }
+
+    public List<Long> allocateIds(int count) {
+        if (count == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, count);
+    }
+
+    /**
+     * Insert or update the jobs (ids already assigned) and replace their skills, responsibilities
+     * and benefits. posted_date, counters and created_at of existing jobs are kept.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void upsert(List<Job> jobs) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, jobs, jobs.size(), (ps, job) -> {
+            int i = 1;
+            ps.setLong(i++, job.getId());
+            ps.setString(i++, job.getEmployerId());
+            ps.setString(i++, job.getExternalId());
+            ps.setString(i++, job.getTitle());
+            ps.setString(i++, job.getCompany());
+            ps.setString(i++, job.getCompanyId());
+            ps.setString(i++, job.getLocation());
+            ps.setString(i++, job.getType());
+            ps.setString(i++, job.getSalary());
+            setLong(ps, i++, job.getSalaryMin());
+            setLong(ps, i++, job.getSalaryMax());
+            ps.setString(i++, job.getSalaryCurrency());
+            ps.setString(i++, job.getSalaryPeriod());
+            ps.setString(i++, job.getDescription());
+            ps.setString(i++, job.getStatus());
+            ps.setString(i++, job.getSeniority());
+            if (job.getIsRemote() != null) {
+                ps.setBoolean(i++, job.getIsRemote());
+            } else {
+                ps.setNull(i++, Types.BOOLEAN);
+            }
+            ps.setString(i++, job.getEducationRequired());
+            ps.setDate(i++, Date.valueOf(job.getPostedDate()));
+            ps.setTimestamp(i++, Timestamp.valueOf(job.getCreatedAt()));
+            ps.setTimestamp(i, Timestamp.valueOf(job.getUpdatedAt()));
+        });
+
+        Long[] ids = jobs.stream().map(Job::getId).toArray(Long[]::new);
+        replaceCollection("job_skills", "skills", ids, jobs, Job::getSkills);
+        replaceCollection("job_responsibilities", "responsibilities", ids, jobs, Job::getResponsibilities);
+        replaceCollection("job_benefits", "benefits", ids, jobs, Job::getBenefits);
+    }
+
+    private void replaceCollection(String table, String column, Long[] ids, List<Job> jobs,
+                                   Function<Job, List<String>> values) {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE job_id = ANY(?)",
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+
+        List<Object[]> rows = new ArrayList<>();
+        for (Job job : jobs) {
+            List<String> items = values.apply(job);
+            if (items != null) {
+                for (String item : items) {
+                    rows.add(new Object[] {job.getId(), item});
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO " + table + " (job_id, " + column + ") VALUES (?, ?)", rows);
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Application_Service.repository;
+
+import com.example.Application_Service.domain.entity.JobPipelineStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobPipelineStatsRepository extends JpaRepository<JobPipelineStats, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM JobPipelineStats p WHERE p.jobId = :jobId")
+    Optional<JobPipelineStats> findByJobIdForUpdate(@Param("jobId") Long jobId);
+
+    /**
+     * Create an all-zero row unless one exists. Returns 1 if this call created it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_pipeline_stats (job_id, total, applied, resume_viewed, in_review, " +
+                   "shortlisted, interview, offered, rejected, withdrawn, updated_at) " +
+                   "VALUES (:jobId, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (job_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("jobId") Long jobId);
+}
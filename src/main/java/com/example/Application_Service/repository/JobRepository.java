@@ -4,9 +4,15 @@ import com.example.Application_Service.domain.entity.Job;
 import com.example.Application_Service.domain.enums.JobStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,5 +25,58 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     Page<Job> findByEmployerId(String employerId, Pageable pageable);
     Page<Job> findByEmployerIdAndStatus(String employerId, String status, Pageable pageable);
     List<Job> findByEmployerId(String employerId);
+    // Parsed yearly salary maximum reaches the requested minimum
+    Page<Job> findByEmployerIdAndSalaryMaxGreaterThanEqual(String employerId, Long minSalary, Pageable pageable);
+    Page<Job> findByEmployerIdAndStatusAndSalaryMaxGreaterThanEqual(String employerId, String status, Long minSalary, Pageable pageable);
+    // Same, limited to one parsed currency (amounts in different currencies do not compare)
+    Page<Job> findByEmployerIdAndSalaryCurrency(String employerId, String currency, Pageable pageable);
+    Page<Job> findByEmployerIdAndStatusAndSalaryCurrency(String employerId, String status, String currency, Pageable pageable);
+    Page<Job> findByEmployerIdAndSalaryCurrencyAndSalaryMaxGreaterThanEqual(String employerId, String currency, Long minSalary, Pageable pageable);
+    Page<Job> findByEmployerIdAndStatusAndSalaryCurrencyAndSalaryMaxGreaterThanEqual(String employerId, String status, String currency, Long minSalary, Pageable pageable);
     long countByEmployerId(String employerId);
+    long countByEmployerIdAndStatus(String employerId, String status);
+
+    // Keeps the denormalized counter in step with job_pipeline_stats.total
+    @Modifying
+    @Query("UPDATE Job j SET j.applicationsCount = :count WHERE j.id = :jobId")
+    int updateApplicationsCount(@Param("jobId") Long jobId, @Param("count") int count);
+
+    // Search index loading: ids in batches, then the jobs with their skills in one query per batch
+    @Query("SELECT j.id FROM Job j WHERE j.status = :status AND j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsByStatusAfter(@Param("status") String status, @Param("afterId") Long afterId, Pageable limit);
+
+    @Query("SELECT j.id FROM Job j WHERE j.updatedAt > :since")
+    List<Long> findIdsUpdatedAfter(@Param("since") LocalDateTime since);
+
+    // Salary backfill: rows with a salary text but no parsed range (unparseable ones are skipped by the cursor)
+    @Query("SELECT j.id FROM Job j WHERE j.salary IS NOT NULL AND j.salaryMax IS NULL AND j.id > :afterId ORDER BY j.id")
+    List<Long> findIdsWithUnparsedSalaryAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    @EntityGraph(attributePaths = "skills")
+    List<Job> findWithSkillsByIdIn(Collection<Long> ids);
+
+    // Keyset (cursor) pages, newest first; pageable only carries the row limit
+    @Query("SELECT j FROM Job j WHERE j.employerId = :employerId ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findByEmployerIdFirst(@Param("employerId") String employerId, Pageable limit);
+
+    @Query("SELECT j FROM Job j WHERE j.employerId = :employerId AND (j.createdAt, j.id) < (:createdAt, :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findByEmployerIdBefore(@Param("employerId") String employerId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable limit);
+
+    @Query("SELECT j FROM Job j WHERE j.employerId = :employerId AND j.status = :status " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findByEmployerIdAndStatusFirst(@Param("employerId") String employerId,
+                                             @Param("status") String status,
+                                             Pageable limit);
+
+    @Query("SELECT j FROM Job j WHERE j.employerId = :employerId AND j.status = :status " +
+           "AND (j.createdAt, j.id) < (:createdAt, :id) ORDER BY j.createdAt DESC, j.id DESC")
+    List<Job> findByEmployerIdAndStatusBefore(@Param("employerId") String employerId,
+                                              @Param("status") String status,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable limit);
 }
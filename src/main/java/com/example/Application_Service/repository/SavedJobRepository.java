@@ -3,8 +3,12 @@ package com.example.Application_Service.repository;
 import com.example.Application_Service.domain.entity.SavedJob;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,5 +22,16 @@ public interface SavedJobRepository extends org.springframework.data.jpa.reposit
 
     long countByUserId(String userId);
 
+    // Keyset (cursor) pages, newest first; pageable only carries the row limit
+    @Query("SELECT s FROM SavedJob s WHERE s.userId = :userId ORDER BY s.savedDate DESC, s.id DESC")
+    List<SavedJob> findByUserIdFirst(@Param("userId") String userId, Pageable limit);
+
+    @Query("SELECT s FROM SavedJob s WHERE s.userId = :userId AND (s.savedDate, s.id) < (:savedDate, :id) " +
+           "ORDER BY s.savedDate DESC, s.id DESC")
+    List<SavedJob> findByUserIdBefore(@Param("userId") String userId,
+                                      @Param("savedDate") Instant savedDate,
+                                      @Param("id") String id,
+                                      Pageable limit);
+
     void deleteByUserIdAndJobId(String userId, Long jobId);
 }
@@ -0,0 +1,31 @@
+package com.example.Application_Service.repository;
+
+import com.example.Application_Service.domain.entity.UserApplicationStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserApplicationStatsRepository extends JpaRepository<UserApplicationStats, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserApplicationStats s WHERE s.userId = :userId")
+    Optional<UserApplicationStats> findByUserIdForUpdate(@Param("userId") String userId);
+
+    /**
+     * Create an all-zero row unless one exists. Returns 1 if this call created it.
+     * Concurrent creators wait on the primary key and get 0 once the winner commits.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_application_stats (user_id, total, applied, resume_viewed, in_review, " +
+                   "shortlisted, interview, offered, rejected, withdrawn, updated_at) " +
+                   "VALUES (:userId, 0, 0, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") String userId);
+}
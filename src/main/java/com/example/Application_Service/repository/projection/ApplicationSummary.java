@@ -0,0 +1,35 @@
+package com.example.Application_Service.repository.projection;
+
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Read model for application list endpoints.
+ * Carries only the columns ApplicationResponse needs plus the job summary,
+ * so resume_data and cover_letter are never fetched for list pages.
+ */
+public record ApplicationSummary(
+    String id,
+    String userId,
+    Long jobId,
+    ApplicationStatus status,
+    LocalDate appliedDate,
+    String resumeId,
+    Instant createdAt,
+    Instant updatedAt,
+    String applicantName,
+    String applicantEmail,
+    String jobTitle,
+    String jobCompany,
+    String jobCompanyId,
+    String jobEmployerId,
+    String jobLogo,
+    String jobLocation,
+    String jobType,
+    String jobSalary,
+    LocalDate jobPostedDate,
+    String jobStatus,
+    String jobSeniority
+) {}
@@ -0,0 +1,40 @@
+package com.example.Application_Service.repository.projection;
+
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Row returned by a conditional status update: the application as written,
+ * the status it was moved from, and the job summary joined for the ownership check.
+ * Never carries resume_data.
+ */
+public record ApplicationTransition(
+    String id,
+    String userId,
+    Long jobId,
+    ApplicationStatus previousStatus,
+    ApplicationStatus status,
+    LocalDate appliedDate,
+    String resumeId,
+    String coverLetter,
+    String rejectionReason,
+    Instant createdAt,
+    Instant updatedAt,
+    String applicantName,
+    String applicantEmail,
+    String jobTitle,
+    String jobCompany,
+    String jobCompanyId,
+    String jobEmployerId,
+    String jobLogo,
+    String jobLocation,
+    String jobType,
+    String jobSalary,
+    LocalDate jobPostedDate,
+    String jobDescription,
+    String jobStatus,
+    String jobSeniority
+) {
+}
@@ -0,0 +1,42 @@
+package com.example.Application_Service.repository.projection;
+
+import com.example.Application_Service.domain.entity.Job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Immutable snapshot of the job columns needed to accept an application and build
+ * its response and event; held by JobStatusCache. updatedAt and the two counters, which change without
+ * touching updatedAt, also make up the ETag of the job detail.
+ */
+public record JobSummary(
+    Long id,
+    String title,
+    String company,
+    String companyId,
+    String employerId,
+    String logo,
+    String location,
+    String type,
+    String salary,
+    LocalDate postedDate,
+    String description,
+    String status,
+    String seniority,
+    LocalDateTime updatedAt,
+    Integer applicationsCount,
+    Integer viewsCount
+) {
+
+    public static JobSummary of(Job job) {
+        return new JobSummary(job.getId(), job.getTitle(), job.getCompany(), job.getCompanyId(), job.getEmployerId(),
+            job.getLogo(), job.getLocation(), job.getType(), job.getSalary(), job.getPostedDate(),
+            job.getDescription(), job.getStatus(), job.getSeniority(), job.getUpdatedAt(),
+            job.getApplicationsCount(), job.getViewsCount());
+    }
+
+    public boolean isPublished() {
+        return "Published".equals(status);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.Application_Service.repository.projection;
+
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+
+/**
+ * Resume columns of an application together with what the resume view needs
+ * for the ownership check and the RESUME_VIEWED notification.
+ */
+public record ResumeAccess(
+    String applicationId,
+    String userId,
+    Long jobId,
+    ApplicationStatus status,
+    String applicantName,
+    String applicantEmail,
+    byte[] resumeData,
+    String resumeFileName,
+    String resumeContentType,
+    String jobTitle,
+    String jobCompany,
+    String jobCompanyId,
+    String jobEmployerId
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.Application_Service.repository.projection;
+
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+
+/**
+ * One application moved by a set-based status update, with the columns
+ * needed for counters and the status-change event.
+ */
+public record StatusChange(
+    String id,
+    String userId,
+    ApplicationStatus previousStatus,
+    String applicantName,
+    String applicantEmail
+) {
+}
@@ -0,0 +1,380 @@
+package com.example.Application_Service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix autocomplete over the titles, company names and skills of Published jobs.
+ *
+ * Each field is a radix trie (edges carry strings, single-child chains are merged) of normalized
+ * values, counting the Published jobs that have each value. Every node caches its most frequent
+ * completions, so a lookup is a walk down the prefix plus a copy of that list. Adding or removing
+ * a job changes the counts of its values and patches the cached lists on their paths, stopping at
+ * the first list the value does not reach.
+ * What each job contributed is kept, so an update only needs the new version. Lookups share a
+ * read lock, updates take the write lock.
+ */
+public class AutocompleteIndex {
+
+    public enum Field { TITLE, COMPANY, SKILL }
+
+    /**
+     * A completion and the number of Published jobs having it
+     */
+    public record Suggestion(String value, int count) {}
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxSuggestions;
+    private final Map<Field, Trie> tries = new EnumMap<>(Field.class);
+    private final Map<Long, Map<Field, Set<String>>> valuesByJob = new HashMap<>();
+
+    public AutocompleteIndex(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+        for (Field field : Field.values()) {
+            tries.put(field, new Trie());
+        }
+    }
+
+    /**
+     * Add a job or replace the indexed version of it
+     */
+    public void upsert(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            addLocked(document, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole content, e.g. after loading all Published jobs
+     */
+    public void replaceAll(List<JobDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            valuesByJob.clear();
+            for (Field field : Field.values()) {
+                tries.put(field, new Trie());
+            }
+            // Counts first, then every cached list once
+            for (JobDocument document : documents) {
+                addLocked(document, false);
+            }
+            for (Trie trie : tries.values()) {
+                trie.computeTops(trie.root);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most frequent values of a field starting with {@code prefix} (case and spacing ignored),
+     * at most {@code limit} and never more than the configured maximum
+     */
+    public List<Suggestion> complete(Field field, String prefix, int limit) {
+        // A trailing space is kept: "sql " completes "sql server" but not "sqlite"
+        String key = prefix != null ? prefix.stripLeading().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT) : "";
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = tries.get(field).find(key);
+            if (node == null) {
+                return List.of();
+            }
+            List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, node.top.size()));
+            for (Entry entry : node.top) {
+                if (suggestions.size() == limit) {
+                    break;
+                }
+                suggestions.add(new Suggestion(entry.label, entry.count));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct values of a field
+     */
+    public int size(Field field) {
+        lock.readLock().lock();
+        try {
+            return tries.get(field).entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(JobDocument document, boolean maintainTops) {
+        Map<Field, Set<String>> values = new EnumMap<>(Field.class);
+        addValue(values, Field.TITLE, document.title(), maintainTops);
+        addValue(values, Field.COMPANY, document.company(), maintainTops);
+        for (String skill : document.skills()) {
+            addValue(values, Field.SKILL, skill, maintainTops);
+        }
+        valuesByJob.put(document.id(), values);
+    }
+
+    private void addValue(Map<Field, Set<String>> values, Field field, String value, boolean maintainTops) {
+        String key = normalize(value);
+        if (key != null && values.computeIfAbsent(field, f -> new LinkedHashSet<>()).add(key)) {
+            tries.get(field).add(key, value.trim(), 1, maintainTops);
+        }
+    }
+
+    private void removeLocked(Long jobId) {
+        Map<Field, Set<String>> values = valuesByJob.remove(jobId);
+        if (values == null) {
+            return;
+        }
+        for (Map.Entry<Field, Set<String>> field : values.entrySet()) {
+            for (String key : field.getValue()) {
+                tries.get(field.getKey()).add(key, null, -1, true);
+            }
+        }
+    }
+
+    // Lower case with runs of whitespace collapsed; null when nothing is left
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String key = value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    // Most frequent first, then alphabetical
+    private static final Comparator<Entry> RANKING = Comparator
+        .comparingInt((Entry entry) -> entry.count).reversed()
+        .thenComparing(entry -> entry.key);
+
+    private final class Trie {
+
+        final Node root = new Node("");
+        int entries;
+
+        Node find(String prefix) {
+            Node node = root;
+            int at = 0;
+            while (at < prefix.length()) {
+                Node child = node.children.get(prefix.charAt(at));
+                if (child == null) {
+                    return null;
+                }
+                int common = commonPrefix(child.edge, prefix, at);
+                if (at + common == prefix.length()) {
+                    return child;
+                }
+                if (common < child.edge.length()) {
+                    return null;
+                }
+                node = child;
+                at += common;
+            }
+            return node;
+        }
+
+        /**
+         * Change the count of {@code key} by {@code delta}; {@code label} is shown for a new entry.
+         * With {@code updateTops} false the cached lists are left for computeTops().
+         */
+        void add(String key, String label, int delta, boolean updateTops) {
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            path.add(node);
+            int at = 0;
+            while (at < key.length()) {
+                Node child = node.children.get(key.charAt(at));
+                if (child == null) {
+                    if (delta < 0) {
+                        return;
+                    }
+                    child = new Node(key.substring(at));
+                    node.children.put(child.edge.charAt(0), child);
+                } else {
+                    int common = commonPrefix(child.edge, key, at);
+                    if (common < child.edge.length()) {
+                        if (delta < 0) {
+                            return;
+                        }
+                        child = split(node, child, common);
+                    }
+                }
+                node = child;
+                path.add(node);
+                at += node.edge.length();
+            }
+
+            if (node.terminal == null) {
+                if (delta < 0) {
+                    return;
+                }
+                node.terminal = new Entry(key, label);
+                entries++;
+            }
+            Entry entry = node.terminal;
+            entry.count += delta;
+            if (entry.count <= 0) {
+                node.terminal = null;
+                entries--;
+                compact(path);
+            }
+            if (updateTops) {
+                updateTops(path, entry, delta > 0);
+            }
+        }
+
+        /**
+         * Fill the cached lists of a whole subtree, children first
+         */
+        void computeTops(Node node) {
+            for (Node child : node.children.values()) {
+                computeTops(child);
+            }
+            node.top = topOf(node);
+        }
+
+        // Drop the nodes left without entries on the path and merge single-child chains; the path
+        // is patched to the nodes now in the trie (null for dropped ones)
+        private void compact(List<Node> path) {
+            for (int i = path.size() - 1; i > 0; i--) {
+                Node current = path.get(i);
+                if (current.terminal != null || current.children.size() > 1) {
+                    continue;
+                }
+                Node parent = path.get(i - 1);
+                if (current.children.isEmpty()) {
+                    parent.children.remove(current.edge.charAt(0));
+                    path.set(i, null);
+                    continue;
+                }
+                Node only = current.children.values().iterator().next();
+                Node merged = new Node(current.edge + only.edge);
+                merged.children.putAll(only.children);
+                merged.terminal = only.terminal;
+                merged.top = only.top;
+                parent.children.put(merged.edge.charAt(0), merged);
+                path.set(i, merged);
+                if (i + 1 < path.size() && path.get(i + 1) == only) {
+                    path.set(i + 1, null);
+                }
+            }
+        }
+
+        // Patch the cached lists from the entry's node up. A list only changes if the entry is or
+        // gets in it, and then so may the lists above it; the first list it stays out of ends the walk.
+        // Not after a removal: compact() may have put merged nodes on the path whose lists say
+        // nothing of the ones above, so every list still holding the entry is rebuilt.
+        private void updateTops(List<Node> path, Entry entry, boolean increased) {
+            boolean removed = entry.count <= 0;
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node node = path.get(i);
+                if (node == null) {
+                    continue;
+                }
+                boolean listed = node.top.contains(entry);
+                if (increased && (listed || node.top.size() < maxSuggestions
+                        || RANKING.compare(entry, node.top.get(node.top.size() - 1)) < 0)) {
+                    List<Entry> top = new ArrayList<>(node.top);
+                    if (!listed) {
+                        if (top.size() == maxSuggestions) {
+                            top.remove(top.size() - 1);
+                        }
+                        top.add(entry);
+                    }
+                    top.sort(RANKING);
+                    node.top = List.copyOf(top);
+                } else if (!increased && listed) {
+                    // Something from below may take its place
+                    node.top = topOf(node);
+                } else if (!removed) {
+                    return;
+                }
+            }
+        }
+
+        // Insert a node for the first {@code length} chars of the child's edge between parent and child
+        private Node split(Node parent, Node child, int length) {
+            Node middle = new Node(child.edge.substring(0, length));
+            Node rest = new Node(child.edge.substring(length));
+            rest.children.putAll(child.children);
+            rest.terminal = child.terminal;
+            rest.top = child.top;
+            middle.children.put(rest.edge.charAt(0), rest);
+            middle.top = rest.top;
+            parent.children.put(middle.edge.charAt(0), middle);
+            return middle;
+        }
+
+        private List<Entry> topOf(Node node) {
+            List<Entry> candidates = new ArrayList<>();
+            if (node.terminal != null) {
+                candidates.add(node.terminal);
+            }
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(RANKING);
+            return candidates.size() > maxSuggestions
+                ? List.copyOf(candidates.subList(0, maxSuggestions)) : List.copyOf(candidates);
+        }
+    }
+
+    private static int commonPrefix(String edge, String key, int from) {
+        int length = Math.min(edge.length(), key.length() - from);
+        int i = 0;
+        while (i < length && edge.charAt(i) == key.charAt(from + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        final String edge;
+        final Map<Character, Node> children = new HashMap<>(4);
+        Entry terminal;
+        // Best completions in this subtree, at most maxSuggestions
+        List<Entry> top = List.of();
+
+        Node(String edge) {
+            this.edge = edge;
+        }
+    }
+
+    private static final class Entry {
+
+        final String key;
+        // Spelling of the first job that brought the value
+        final String label;
+        int count;
+
+        Entry(String key, String label) {
+            this.key = key;
+            this.label = label;
+        }
+    }
+}
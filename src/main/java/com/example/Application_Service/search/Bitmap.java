@@ -0,0 +1,90 @@
+package com.example.Application_Service.search;
+
+import java.util.Arrays;
+
+/**
+ * Bit set over document ordinals with the operations facet counting needs.
+ *
+ * Ordinals are dense (0..documents), so plain 64-bit words are already compact: one bit per
+ * job per facet value. Intersection counts run word by word with Long.bitCount and allocate nothing.
+ * Not thread-safe; JobSearchIndex guards it with its lock.
+ */
+final class Bitmap {
+
+    private long[] words;
+
+    Bitmap() {
+        this.words = new long[0];
+    }
+
+    private Bitmap(long[] words) {
+        this.words = words;
+    }
+
+    Bitmap copy() {
+        return new Bitmap(words.clone());
+    }
+
+    void set(int bit) {
+        int word = bit >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << bit;
+    }
+
+    void clear(int bit) {
+        int word = bit >>> 6;
+        if (word < words.length) {
+            words[word] &= ~(1L << bit);
+        }
+    }
+
+    boolean get(int bit) {
+        int word = bit >>> 6;
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    /**
+     * this &= other
+     */
+    void and(Bitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            words[i] &= other.words[i];
+        }
+        Arrays.fill(words, common, words.length, 0L);
+    }
+
+    /**
+     * this |= other
+     */
+    void or(Bitmap other) {
+        if (other.words.length > words.length) {
+            words = Arrays.copyOf(words, other.words.length);
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * |this & other| without materializing the intersection
+     */
+    int intersectionCount(Bitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        int count = 0;
+        for (int i = 0; i < common; i++) {
+            count += Long.bitCount(words[i] & other.words[i]);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.Application_Service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One bitmap per facet value (seniority, type, remote, location, skill) over the ordinals of
+ * JobSearchIndex. Values are matched case-insensitively; the label shown is the first spelling seen.
+ * Maintained by JobSearchIndex under its write lock and read under its read lock.
+ */
+final class FacetIndex {
+
+    static final String SENIORITY = "seniority";
+    static final String TYPE = "type";
+    static final String REMOTE = "isRemote";
+    static final String LOCATION = "location";
+    static final String SKILLS = "skills";
+
+    private final Map<String, Facet> facets = new LinkedHashMap<>();
+
+    FacetIndex() {
+        facets.put(SENIORITY, new Facet(d -> single(d.seniority())));
+        facets.put(TYPE, new Facet(d -> single(d.type())));
+        facets.put(REMOTE, new Facet(d -> d.isRemote() != null ? List.of(d.isRemote().toString()) : List.of()));
+        facets.put(LOCATION, new Facet(d -> single(d.location())));
+        facets.put(SKILLS, new Facet(JobDocument::skills));
+    }
+
+    void add(int ordinal, JobDocument document) {
+        facets.values().forEach(facet -> facet.add(ordinal, document));
+    }
+
+    void remove(int ordinal, JobDocument document) {
+        facets.values().forEach(facet -> facet.remove(ordinal, document));
+    }
+
+    void clear() {
+        facets.values().forEach(facet -> facet.values.clear());
+    }
+
+    /**
+     * Jobs having the given value of a facet; empty bitmap when the value is unknown
+     */
+    Bitmap valueBitmap(String facet, String value) {
+        FacetValue facetValue = facets.get(facet).values.get(key(value));
+        return facetValue != null ? facetValue.bitmap : new Bitmap();
+    }
+
+    /**
+     * Union of the location values containing {@code substring} (already lower-cased)
+     */
+    Bitmap locationsContaining(String substring) {
+        Bitmap union = new Bitmap();
+        facets.get(LOCATION).values.forEach((key, value) -> {
+            if (key.contains(substring)) {
+                union.or(value.bitmap);
+            }
+        });
+        return union;
+    }
+
+    /**
+     * Non-zero counts of every value of {@code facet} within {@code results}, highest first, at most {@code limit}
+     */
+    List<JobSearchIndex.FacetHit> count(String facet, Bitmap results, int limit) {
+        List<JobSearchIndex.FacetHit> counts = new ArrayList<>();
+        for (FacetValue value : facets.get(facet).values.values()) {
+            int count = results.intersectionCount(value.bitmap);
+            if (count > 0) {
+                counts.add(new JobSearchIndex.FacetHit(value.label, count));
+            }
+        }
+        counts.sort((a, b) -> a.count() != b.count() ? Integer.compare(b.count(), a.count()) : a.value().compareTo(b.value()));
+        return counts.size() > limit ? new ArrayList<>(counts.subList(0, limit)) : counts;
+    }
+
+    Collection<String> names() {
+        return facets.keySet();
+    }
+
+    private static List<String> single(String value) {
+        return value != null ? List.of(value) : List.of();
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Facet {
+        private final Function<JobDocument, List<String>> extractor;
+        private final Map<String, FacetValue> values = new HashMap<>();
+
+        Facet(Function<JobDocument, List<String>> extractor) {
+            this.extractor = extractor;
+        }
+
+        void add(int ordinal, JobDocument document) {
+            for (String value : extractor.apply(document)) {
+                if (value != null && !value.isBlank()) {
+                    FacetValue facetValue = values.computeIfAbsent(key(value), k -> new FacetValue(value.trim()));
+                    if (!facetValue.bitmap.get(ordinal)) {
+                        facetValue.bitmap.set(ordinal);
+                        facetValue.size++;
+                    }
+                }
+            }
+        }
+
+        void remove(int ordinal, JobDocument document) {
+            for (String value : extractor.apply(document)) {
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                String key = key(value);
+                FacetValue facetValue = values.get(key);
+                if (facetValue != null && facetValue.bitmap.get(ordinal)) {
+                    facetValue.bitmap.clear(ordinal);
+                    facetValue.size--;
+                    if (facetValue.size <= 0) {
+                        values.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class FacetValue {
+        private final String label;
+        private final Bitmap bitmap = new Bitmap();
+        private int size;
+
+        FacetValue(String label) {
+            this.label = label;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.Application_Service.search;
+
+import java.util.List;
+
+/**
+ * Published when jobs are created or changed (JobService, bulk ingestion); the search index and
+ * the job response cache pick it up after commit
+ */
+public record JobChangedEvent(List<Long> jobIds) {
+
+    public JobChangedEvent(Long jobId) {
+        this(List.of(jobId));
+    }
+}
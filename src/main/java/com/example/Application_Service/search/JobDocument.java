@@ -0,0 +1,67 @@
+package com.example.Application_Service.search;
+
+import com.example.Application_Service.domain.entity.Job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable snapshot of a Published job held by the search index: what a result needs
+ * to be rendered without going back to the database.
+ */
+public record JobDocument(
+    Long id,
+    String title,
+    String company,
+    String companyId,
+    String location,
+    String type,
+    String salary,
+    Long salaryMin,
+    Long salaryMax,
+    String salaryCurrency,
+    String salaryPeriod,
+    String description,
+    List<String> skills,
+    String status,
+    LocalDate postedDate,
+    Integer applicationsCount,
+    Integer viewsCount,
+    String seniority,
+    String logo,
+    Boolean isRemote,
+    String educationRequired,
+    String employerId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+
+    public static JobDocument of(Job job) {
+        return new JobDocument(
+            job.getId(),
+            job.getTitle(),
+            job.getCompany(),
+            job.getCompanyId(),
+            job.getLocation(),
+            job.getType(),
+            job.getSalary(),
+            job.getSalaryMin(),
+            job.getSalaryMax(),
+            job.getSalaryCurrency(),
+            job.getSalaryPeriod(),
+            job.getDescription(),
+            job.getSkills() != null ? List.copyOf(job.getSkills()) : List.of(),
+            job.getStatus(),
+            job.getPostedDate(),
+            job.getApplicationsCount(),
+            job.getViewsCount(),
+            job.getSeniority(),
+            job.getLogo(),
+            job.getIsRemote(),
+            job.getEducationRequired(),
+            job.getEmployerId(),
+            job.getCreatedAt(),
+            job.getUpdatedAt());
+    }
+}
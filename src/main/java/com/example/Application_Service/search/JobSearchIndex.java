@@ -0,0 +1,564 @@
+package com.example.Application_Service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over Published jobs with BM25 ranking.
+ *
+ * Fields are weighted by repeating their term frequencies (title x3, skills x2, description x1),
+ * a simplified BM25F. Documents get an ordinal when added; postings are append-only arrays in
+ * ordinal order. Replacing or removing a job leaves a tombstone that queries skip, and the index
+ * is compacted once tombstones reach a quarter of the documents. Newest-first and salary orders
+ * of the live ordinals are cached and patched on single updates; a minimum salary is a prefix
+ * of the salary order, so that filter stops at the first job below it. Facet values keep a bitmap of
+ * the ordinals holding them (see FacetIndex), updated with the postings. Queries share a read lock,
+ * updates take the write lock.
+ */
+public class JobSearchIndex {
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float SKILLS_WEIGHT = 2f;
+    static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 1024;
+
+    /**
+     * One page of ranked matches and the total number of matches
+     */
+    public record Hits(List<JobDocument> documents, long total) {}
+
+    /**
+     * Count of jobs having one facet value
+     */
+    public record FacetHit(String value, int count) {}
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed by ordinal; null once the job was replaced or removed
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<Long, Integer> ordinalByJobId = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final FacetIndex facetIndex = new FacetIndex();
+    private Bitmap live = new Bitmap();
+    private double totalLength;
+    private int tombstones;
+    // Bumped by every write; equal generations mean equal search results
+    private volatile long generation;
+    // Live ordinals newest first and highest salary first, built on first use after a rebuild
+    private volatile int[] recency;
+    private volatile int[] bySalary;
+
+    /**
+     * Add a job or replace the indexed version of it
+     */
+    public void upsert(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = removeLocked(document.id());
+            int ordinal = addLocked(document);
+            recency = patch(recency, previous, ordinal, this::compareRecency);
+            bySalary = patch(bySalary, previous, ordinal, this::compareSalary);
+            generation++;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = removeLocked(jobId);
+            if (previous != null) {
+                recency = patch(recency, previous, -1, this::compareRecency);
+                bySalary = patch(bySalary, previous, -1, this::compareSalary);
+                generation++;
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole index content, e.g. after loading all Published jobs
+     */
+    public void replaceAll(List<JobDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            clearLocked();
+            documents.forEach(this::addLocked);
+            generation++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes with every write; lets callers tell that results cannot have changed
+     */
+    public long generation() {
+        return generation;
+    }
+
+    public boolean contains(Long jobId) {
+        lock.readLock().lock();
+        try {
+            return ordinalByJobId.containsKey(jobId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalByJobId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank the jobs matching any keyword by BM25 (ties newest first); without keywords, list
+     * every job passing the filters newest first. Order.SALARY lists the matches by salary
+     * instead. Returns {@code limit} hits after {@code offset}.
+     */
+    public Hits search(JobSearchQuery query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query.keywords()));
+        String locationKey = hasText(query.location()) ? query.location().toLowerCase(Locale.ROOT) : null;
+
+        lock.readLock().lock();
+        try {
+            // No more hits than jobs, however deep the page
+            int wanted = (int) Math.min((long) offset + limit, ordinalByJobId.size());
+            List<Scored> top;
+            long total;
+            if (query.order() == JobSearchQuery.Order.SALARY) {
+                // Walk the salary order; with a minimum salary only its prefix can match
+                Bitmap matches = terms.isEmpty() ? null : keywordMatches(terms);
+                top = new ArrayList<>(Math.min(wanted, 1024));
+                total = 0;
+                for (int ordinal : salaryOrder()) {
+                    Entry entry = entries.get(ordinal);
+                    if (query.minSalary() != null && !reaches(entry.document, query.minSalary())) {
+                        break;
+                    }
+                    if ((matches == null || matches.get(ordinal)) && matchesFilters(entry, query, locationKey)) {
+                        total++;
+                        if (top.size() < wanted) {
+                            top.add(new Scored(entry.document, 0f));
+                        }
+                    }
+                }
+            } else if (terms.isEmpty()) {
+                // Browsing: walk the cached newest-first order and keep the first matches
+                top = new ArrayList<>(Math.min(wanted, 1024));
+                total = 0;
+                for (int ordinal : recencyOrder()) {
+                    Entry entry = entries.get(ordinal);
+                    if (matchesFilters(entry, query, locationKey)) {
+                        total++;
+                        if (top.size() < wanted) {
+                            top.add(new Scored(entry.document, 0f));
+                        }
+                    }
+                }
+            } else {
+                float[] scores = new float[entries.size()];
+                int[] touched = new int[16];
+                int touchedCount = 0;
+                int liveDocs = ordinalByJobId.size();
+                float averageLength = liveDocs > 0 ? (float) (totalLength / liveDocs) : 1f;
+
+                for (String term : terms) {
+                    Postings list = postings.get(term);
+                    if (list == null || list.documentFrequency == 0) {
+                        continue;
+                    }
+                    float idf = (float) Math.log(1 + (liveDocs - list.documentFrequency + 0.5) / (list.documentFrequency + 0.5));
+                    for (int i = 0; i < list.size; i++) {
+                        int ordinal = list.ordinals[i];
+                        Entry entry = entries.get(ordinal);
+                        if (entry == null) {
+                            continue;
+                        }
+                        float tf = list.frequencies[i];
+                        float norm = K1 * (1 - B + B * entry.length / averageLength);
+                        if (scores[ordinal] == 0f) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touchedCount * 2);
+                            }
+                            touched[touchedCount++] = ordinal;
+                        }
+                        scores[ordinal] += idf * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+
+                PriorityQueue<Scored> heap = new PriorityQueue<>(Math.max(1, Math.min(wanted, 1024)), RANKING.reversed());
+                total = 0;
+                for (int i = 0; i < touchedCount; i++) {
+                    Entry entry = entries.get(touched[i]);
+                    if (matchesFilters(entry, query, locationKey)) {
+                        total++;
+                        offer(heap, new Scored(entry.document, scores[touched[i]]), wanted);
+                    }
+                }
+                top = drain(heap);
+            }
+
+            List<JobDocument> page = new ArrayList<>(limit);
+            for (int i = offset; i < top.size(); i++) {
+                page.add(top.get(i).document);
+            }
+            return new Hits(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Facet counts over the jobs matching {@code query}. Each facet is counted against the keyword
+     * matches narrowed by every filter except its own, so the counts show what selecting another
+     * value of that facet would return (skills are never a filter, so they see all of them). Values are sorted
+     * by count, zero counts are left out and location and skills keep the {@code topN} largest.
+     */
+    public Map<String, List<FacetHit>> facets(JobSearchQuery query, int topN) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query.keywords()));
+
+        lock.readLock().lock();
+        try {
+            Bitmap matches = terms.isEmpty() ? live.copy() : keywordMatches(terms);
+            if (query.minSalary() != null || hasText(query.currency())) {
+                matches.and(salaryMatches(query));
+            }
+
+            Map<String, Bitmap> filters = new LinkedHashMap<>();
+            if (hasText(query.seniority())) {
+                filters.put(FacetIndex.SENIORITY, facetIndex.valueBitmap(FacetIndex.SENIORITY, query.seniority()));
+            }
+            if (hasText(query.type())) {
+                filters.put(FacetIndex.TYPE, facetIndex.valueBitmap(FacetIndex.TYPE, query.type()));
+            }
+            if (query.isRemote() != null) {
+                filters.put(FacetIndex.REMOTE, facetIndex.valueBitmap(FacetIndex.REMOTE, query.isRemote().toString()));
+            }
+            if (hasText(query.location())) {
+                filters.put(FacetIndex.LOCATION, facetIndex.locationsContaining(query.location().toLowerCase(Locale.ROOT)));
+            }
+
+            Map<String, List<FacetHit>> result = new LinkedHashMap<>();
+            for (String facet : facetIndex.names()) {
+                Bitmap base = matches.copy();
+                filters.forEach((name, bitmap) -> {
+                    if (!name.equals(facet)) {
+                        base.and(bitmap);
+                    }
+                });
+                int limit = facet.equals(FacetIndex.LOCATION) || facet.equals(FacetIndex.SKILLS) ? topN : Integer.MAX_VALUE;
+                result.put(facet, facetIndex.count(facet, base, limit));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Live ordinals containing any of the terms
+    private Bitmap keywordMatches(Set<String> terms) {
+        Bitmap matches = new Bitmap();
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            for (int i = 0; i < list.size; i++) {
+                matches.set(list.ordinals[i]);
+            }
+        }
+        // Postings still list replaced and removed ordinals
+        matches.and(live);
+        return matches;
+    }
+
+    // Live ordinals passing the salary and currency filters
+    private Bitmap salaryMatches(JobSearchQuery query) {
+        Bitmap matches = new Bitmap();
+        for (int ordinal : salaryOrder()) {
+            JobDocument document = entries.get(ordinal).document;
+            if (query.minSalary() != null && !reaches(document, query.minSalary())) {
+                break;
+            }
+            if (!hasText(query.currency()) || query.currency().equalsIgnoreCase(document.salaryCurrency())) {
+                matches.set(ordinal);
+            }
+        }
+        return matches;
+    }
+
+    private int addLocked(JobDocument document) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = 0;
+        length += accumulate(frequencies, document.title(), TITLE_WEIGHT);
+        for (String skill : document.skills()) {
+            length += accumulate(frequencies, skill, SKILLS_WEIGHT);
+        }
+        length += accumulate(frequencies, document.description(), DESCRIPTION_WEIGHT);
+
+        int ordinal = entries.size();
+        String locationKey = document.location() != null ? document.location().toLowerCase(Locale.ROOT) : "";
+        entries.add(new Entry(document, frequencies.keySet().toArray(new String[0]), length, locationKey));
+        ordinalByJobId.put(document.id(), ordinal);
+        totalLength += length;
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, tf));
+        facetIndex.add(ordinal, document);
+        live.set(ordinal);
+        return ordinal;
+    }
+
+    private Integer removeLocked(Long jobId) {
+        Integer ordinal = ordinalByJobId.remove(jobId);
+        if (ordinal == null) {
+            return null;
+        }
+        Entry entry = entries.set(ordinal, null);
+        totalLength -= entry.length;
+        tombstones++;
+        facetIndex.remove(ordinal, entry.document);
+        live.clear(ordinal);
+        for (String term : entry.terms) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                list.documentFrequency--;
+            }
+        }
+        return ordinal;
+    }
+
+    private void compactIfNeeded() {
+        if (tombstones < MIN_TOMBSTONES_FOR_COMPACTION || tombstones * 4 < entries.size()) {
+            return;
+        }
+        List<JobDocument> remaining = new ArrayList<>(ordinalByJobId.size());
+        for (Entry entry : entries) {
+            if (entry != null) {
+                remaining.add(entry.document);
+            }
+        }
+        clearLocked();
+        remaining.forEach(this::addLocked);
+    }
+
+    private void clearLocked() {
+        entries.clear();
+        ordinalByJobId.clear();
+        postings.clear();
+        facetIndex.clear();
+        live = new Bitmap();
+        totalLength = 0;
+        tombstones = 0;
+        recency = null;
+        bySalary = null;
+    }
+
+    // Called under the read lock: writers are excluded, so concurrent readers build the same array.
+    // Single upserts and removals then patch it in place of a rebuild.
+    private int[] recencyOrder() {
+        int[] order = recency;
+        if (order == null) {
+            order = sortedOrdinals(this::compareRecency);
+            recency = order;
+        }
+        return order;
+    }
+
+    private int[] salaryOrder() {
+        int[] order = bySalary;
+        if (order == null) {
+            order = sortedOrdinals(this::compareSalary);
+            bySalary = order;
+        }
+        return order;
+    }
+
+    private int[] sortedOrdinals(OrdinalOrder comparator) {
+        List<Integer> ordinals = new ArrayList<>(ordinalByJobId.values());
+        ordinals.sort(comparator::compare);
+        return ordinals.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Drop the replaced ordinal and insert the new one (-1 for none); null stays null (not built yet)
+    private int[] patch(int[] order, Integer previous, int ordinal, OrdinalOrder comparator) {
+        if (order == null) {
+            return null;
+        }
+        if (previous != null) {
+            order = removeOrdinal(order, previous);
+        }
+        return ordinal >= 0 ? insertOrdinal(order, ordinal, comparator) : order;
+    }
+
+    // Same order as RANKING for equal scores: posted date desc (undated last), then id desc
+    private int compareRecency(int x, int y) {
+        JobDocument a = entries.get(x).document;
+        JobDocument b = entries.get(y).document;
+        long dayA = a.postedDate() != null ? a.postedDate().toEpochDay() : Long.MIN_VALUE;
+        long dayB = b.postedDate() != null ? b.postedDate().toEpochDay() : Long.MIN_VALUE;
+        return dayA != dayB ? Long.compare(dayB, dayA) : Long.compare(b.id(), a.id());
+    }
+
+    // Parsed yearly salary maximum desc (jobs without one last), then newest first
+    private int compareSalary(int x, int y) {
+        Long salaryA = entries.get(x).document.salaryMax();
+        Long salaryB = entries.get(y).document.salaryMax();
+        if (salaryA == null && salaryB != null) {
+            return 1;
+        }
+        if (salaryA != null && salaryB == null) {
+            return -1;
+        }
+        if (salaryA != null && !salaryA.equals(salaryB)) {
+            return Long.compare(salaryB, salaryA);
+        }
+        return compareRecency(x, y);
+    }
+
+    private static int[] insertOrdinal(int[] order, int ordinal, OrdinalOrder comparator) {
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(order[mid], ordinal) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int[] updated = new int[order.length + 1];
+        System.arraycopy(order, 0, updated, 0, low);
+        updated[low] = ordinal;
+        System.arraycopy(order, low, updated, low + 1, order.length - low);
+        return updated;
+    }
+
+    private static int[] removeOrdinal(int[] order, int ordinal) {
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] == ordinal) {
+                int[] updated = new int[order.length - 1];
+                System.arraycopy(order, 0, updated, 0, i);
+                System.arraycopy(order, i + 1, updated, i, order.length - i - 1);
+                return updated;
+            }
+        }
+        return order;
+    }
+
+    private static float accumulate(Map<String, Float> frequencies, String text, float weight) {
+        List<String> terms = Tokenizer.tokenize(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Float::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    private static boolean matchesFilters(Entry entry, JobSearchQuery query, String locationKey) {
+        JobDocument document = entry.document;
+        if (locationKey != null && !entry.locationKey.contains(locationKey)) {
+            return false;
+        }
+        if (hasText(query.seniority()) && !query.seniority().equalsIgnoreCase(document.seniority())) {
+            return false;
+        }
+        if (hasText(query.type()) && !query.type().equalsIgnoreCase(document.type())) {
+            return false;
+        }
+        if (query.minSalary() != null && !reaches(document, query.minSalary())) {
+            return false;
+        }
+        if (hasText(query.currency()) && !query.currency().equalsIgnoreCase(document.salaryCurrency())) {
+            return false;
+        }
+        return query.isRemote() == null || query.isRemote().equals(document.isRemote());
+    }
+
+    private static boolean reaches(JobDocument document, long minSalary) {
+        return document.salaryMax() != null && document.salaryMax() >= minSalary;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // Best first: score, then newest posting, then highest id
+    private static final Comparator<Scored> RANKING = Comparator
+        .comparingDouble((Scored s) -> s.score).reversed()
+        .thenComparing(s -> s.document.postedDate(), Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(s -> s.document.id(), Comparator.reverseOrder());
+
+    // Keep the best {@code wanted}: the heap is ordered worst first
+    private static void offer(PriorityQueue<Scored> heap, Scored candidate, int wanted) {
+        if (heap.size() < wanted) {
+            heap.add(candidate);
+        } else if (wanted > 0 && RANKING.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    private static List<Scored> drain(PriorityQueue<Scored> heap) {
+        List<Scored> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    // locationKey: lower-cased location for the substring filter
+    private record Entry(JobDocument document, String[] terms, float length, String locationKey) {}
+
+    private record Scored(JobDocument document, float score) {}
+
+    // Comparator over ordinals without boxing
+    @FunctionalInterface
+    private interface OrdinalOrder {
+        int compare(int x, int y);
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+        private int documentFrequency;
+
+        void add(int ordinal, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            documentFrequency++;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.Application_Service.search;
+
+/**
+ * Keyword query plus exact filters. Null or blank values do not filter.
+ *
+ * @param keywords  matched against title, skills and description
+ * @param location  case-insensitive substring of the job location
+ * @param seniority case-insensitive match
+ * @param type      case-insensitive match (Full-time, Contract, ...)
+ * @param isRemote  remote flag
+ * @param minSalary parsed yearly salary maximum is at least this
+ * @param currency  ISO code of the parsed salary, case-insensitive
+ * @param order     result order; null means RELEVANCE
+ */
+public record JobSearchQuery(String keywords, String location, String seniority, String type, Boolean isRemote,
+                             Long minSalary, String currency, Order order) {
+
+    public enum Order {
+        // BM25 for keyword queries, newest first without keywords
+        RELEVANCE,
+        // Highest parsed yearly salary first, jobs without one last
+        SALARY
+    }
+}
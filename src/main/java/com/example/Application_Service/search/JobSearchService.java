@@ -0,0 +1,327 @@
+package com.example.Application_Service.search;
+
+import com.example.Application_Service.domain.enums.JobStatus;
+import com.example.Application_Service.dto.response.AutocompleteSuggestion;
+import com.example.Application_Service.dto.response.FacetCount;
+import com.example.Application_Service.dto.response.JobResponse;
+import com.example.Application_Service.dto.response.PagedJobsResponse;
+import com.example.Application_Service.dto.response.PagedResponse;
+import com.example.Application_Service.repository.JobRepository;
+import com.example.Application_Service.service.JobViewCounter;
+import com.example.Application_Service.service.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Public job search over Published jobs, answered from the in-process JobSearchIndex.
+ *
+ * The index is loaded on startup and kept current from JobChangedEvent (published by JobService,
+ * applied after commit). Changes made through other nodes are picked up by a periodic sync of
+ * jobs whose updated_at moved, so every node converges within {@code search.sync-interval-ms}.
+ * The similar-jobs neighbor lists (JobSimilarityIndex) and the typeahead tries (AutocompleteIndex)
+ * are updated together with the index.
+ */
+@Service
+@Slf4j
+public class JobSearchService implements MetricsSource {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final Map<AutocompleteIndex.Field, String> AUTOCOMPLETE_KEYS = Map.of(
+            AutocompleteIndex.Field.TITLE, "titles",
+            AutocompleteIndex.Field.COMPANY, "companies",
+            AutocompleteIndex.Field.SKILL, "skills");
+
+    private final JobSearchIndex index = new JobSearchIndex();
+    private final JobSimilarityIndex similarity;
+    private final AutocompleteIndex autocomplete;
+    // Distinguishes this node's index generations from other nodes' in ETags
+    private final String nodeTag = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final JobRepository jobRepository;
+    private final JobViewCounter jobViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int loadBatchSize;
+    private final long syncOverlapSeconds;
+    private final int facetTop;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder queryNanos = new LongAdder();
+    private final LongAdder facetQueries = new LongAdder();
+    private final LongAdder facetNanos = new LongAdder();
+    private final LongAdder similarQueries = new LongAdder();
+    private final LongAdder autocompleteQueries = new LongAdder();
+    private final LongAdder autocompleteNanos = new LongAdder();
+    private volatile LocalDateTime syncedUpTo;
+
+    public JobSearchService(JobRepository jobRepository,
+                            JobViewCounter jobViewCounter,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${search.load-batch-size:500}") int loadBatchSize,
+                            @Value("${search.sync-overlap-seconds:60}") long syncOverlapSeconds,
+                            @Value("${search.facets.top:20}") int facetTop,
+                            @Value("${search.similar.neighbors:20}") int similarNeighbors,
+                            @Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.jobRepository = jobRepository;
+        this.jobViewCounter = jobViewCounter;
+        // Own read-only transaction, also when called from an afterCommit callback
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.loadBatchSize = loadBatchSize;
+        this.syncOverlapSeconds = syncOverlapSeconds;
+        this.facetTop = facetTop;
+        this.similarity = new JobSimilarityIndex(similarNeighbors);
+        this.autocomplete = new AutocompleteIndex(maxSuggestions);
+    }
+
+    /**
+     * Keyword search with filters; {@code page} is 1-based. With {@code includeFacets} the response
+     * also carries counts per seniority, type, remote flag, location and top skills.
+     */
+    public PagedJobsResponse search(JobSearchQuery query, int page, int limit, boolean includeFacets) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        int pageNumber = Math.max(page, 1);
+
+        long started = System.nanoTime();
+        // Pages past the last hit are empty; the cap keeps the offset an int
+        long offset = Math.min((long) (pageNumber - 1) * pageSize, Integer.MAX_VALUE);
+        JobSearchIndex.Hits hits = index.search(query, (int) offset, pageSize);
+        queryNanos.add(System.nanoTime() - started);
+        queries.increment();
+
+        Map<String, List<FacetCount>> facets = null;
+        if (includeFacets) {
+            started = System.nanoTime();
+            facets = new LinkedHashMap<>();
+            for (Map.Entry<String, List<JobSearchIndex.FacetHit>> facet : index.facets(query, facetTop).entrySet()) {
+                facets.put(facet.getKey(), facet.getValue().stream()
+                        .map(hit -> FacetCount.builder().value(hit.value()).count(hit.count()).build())
+                        .collect(Collectors.toList()));
+            }
+            facetNanos.add(System.nanoTime() - started);
+            facetQueries.increment();
+        }
+
+        return PagedJobsResponse.builder()
+                .jobs(hits.documents().stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .pagination(PagedResponse.PaginationInfo.builder()
+                        .page(pageNumber)
+                        .limit(pageSize)
+                        .total(hits.total())
+                        .totalPages((int) ((hits.total() + pageSize - 1) / pageSize))
+                        .build())
+                .facets(facets)
+                .build();
+    }
+
+    /**
+     * Published jobs most similar to the given one (see JobSimilarityIndex), most similar first;
+     * at most {@code search.similar.neighbors}. Empty when the job is not Published.
+     */
+    public List<JobResponse> similarJobs(Long jobId, int limit) {
+        similarQueries.increment();
+        return similarity.neighbors(jobId, Math.min(Math.max(limit, 1), MAX_LIMIT)).stream()
+                .map(neighbor -> mapToResponse(neighbor.document()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Typeahead: most frequent Published job titles, company names and skills starting with
+     * {@code prefix}, keyed "titles", "companies" and "skills"; {@code field} (title, company or
+     * skill) limits the answer to one of them.
+     */
+    public Map<String, List<AutocompleteSuggestion>> autocomplete(String prefix, String field, int limit) {
+        List<AutocompleteIndex.Field> fields = List.of(AutocompleteIndex.Field.values());
+        if (field != null && !field.isEmpty()) {
+            try {
+                fields = List.of(AutocompleteIndex.Field.valueOf(field.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid autocomplete field: {}", field);
+            }
+        }
+
+        long started = System.nanoTime();
+        Map<String, List<AutocompleteSuggestion>> suggestions = new LinkedHashMap<>();
+        for (AutocompleteIndex.Field current : fields) {
+            suggestions.put(AUTOCOMPLETE_KEYS.get(current), autocomplete.complete(current, prefix, Math.max(limit, 1)).stream()
+                    .map(suggestion -> AutocompleteSuggestion.builder()
+                            .value(suggestion.value())
+                            .count(suggestion.count())
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+        autocompleteNanos.add(System.nanoTime() - started);
+        autocompleteQueries.increment();
+        return suggestions;
+    }
+
+    /**
+     * Weak ETag for search results of this node: any write to the index changes it. View counts
+     * in the results may move without changing it.
+     */
+    public String resultsEtag() {
+        return "W/\"search-" + nodeTag + "-" + index.generation() + "\"";
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Load every Published job into a fresh index
+     */
+    public void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        List<JobDocument> documents = new ArrayList<>();
+        Long after = 0L;
+        List<Long> ids;
+        do {
+            ids = jobRepository.findIdsByStatusAfter(JobStatus.Published.name(), after, PageRequest.of(0, loadBatchSize));
+            if (!ids.isEmpty()) {
+                documents.addAll(loadDocuments(ids));
+                after = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == loadBatchSize);
+
+        index.replaceAll(documents);
+        similarity.replaceAll(documents);
+        autocomplete.replaceAll(documents);
+        syncedUpTo = started;
+        log.info("Job search index loaded: {} jobs, {} terms, {} skills", index.size(), index.termCount(),
+                similarity.skillCount());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        try {
+            refresh(event.jobIds());
+        } catch (Exception e) {
+            // The periodic sync will pick the jobs up
+            log.warn("Could not update search index for jobs {}: {}", event.jobIds(), e.getMessage());
+        }
+    }
+
+    /**
+     * Re-index jobs changed since the last sync, including changes made through other nodes
+     */
+    @Scheduled(fixedDelayString = "${search.sync-interval-ms:30000}", initialDelayString = "${search.sync-interval-ms:30000}")
+    public void syncChanges() {
+        if (syncedUpTo == null) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        // Overlap covers clock skew between nodes and transactions that committed late
+        List<Long> changed = jobRepository.findIdsUpdatedAfter(syncedUpTo.minusSeconds(syncOverlapSeconds));
+        for (int from = 0; from < changed.size(); from += loadBatchSize) {
+            refresh(changed.subList(from, Math.min(from + loadBatchSize, changed.size())));
+        }
+        syncedUpTo = started;
+    }
+
+    @Override
+    public String metricsName() {
+        return "jobSearch";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        long count = queries.sum();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("documents", index.size());
+        metrics.put("terms", index.termCount());
+        metrics.put("queries", count);
+        metrics.put("avgQueryMicros", count > 0 ? queryNanos.sum() / count / 1000 : 0);
+        long facetCount = facetQueries.sum();
+        metrics.put("facetQueries", facetCount);
+        metrics.put("avgFacetMicros", facetCount > 0 ? facetNanos.sum() / facetCount / 1000 : 0);
+        metrics.put("similarityDocuments", similarity.size());
+        metrics.put("similarQueries", similarQueries.sum());
+        long autocompleteCount = autocompleteQueries.sum();
+        metrics.put("autocompleteQueries", autocompleteCount);
+        metrics.put("avgAutocompleteMicros", autocompleteCount > 0 ? autocompleteNanos.sum() / autocompleteCount / 1000 : 0);
+        return metrics;
+    }
+
+    private void refresh(Collection<Long> jobIds) {
+        Set<Long> seen = new HashSet<>();
+        for (JobDocument document : loadDocuments(jobIds)) {
+            seen.add(document.id());
+            if (JobStatus.Published.name().equals(document.status())) {
+                index.upsert(document);
+                similarity.upsert(document);
+                autocomplete.upsert(document);
+            } else {
+                index.remove(document.id());
+                similarity.remove(document.id());
+                autocomplete.remove(document.id());
+            }
+        }
+        for (Long jobId : jobIds) {
+            if (!seen.contains(jobId)) {
+                index.remove(jobId);
+                similarity.remove(jobId);
+                autocomplete.remove(jobId);
+            }
+        }
+    }
+
+    // Skills come with the jobs in one query; snapshots are taken inside the transaction
+    private List<JobDocument> loadDocuments(Collection<Long> ids) {
+        return transactionTemplate.execute(status -> jobRepository.findWithSkillsByIdIn(ids).stream()
+                .map(JobDocument::of)
+                .collect(Collectors.toList()));
+    }
+
+    private JobResponse mapToResponse(JobDocument document) {
+        return JobResponse.builder()
+                .id(document.id())
+                .title(document.title())
+                .company(document.company())
+                .companyId(document.companyId())
+                .location(document.location())
+                .type(document.type())
+                .salary(document.salary())
+                .salaryMin(document.salaryMin())
+                .salaryMax(document.salaryMax())
+                .salaryCurrency(document.salaryCurrency())
+                .salaryPeriod(document.salaryPeriod())
+                .description(document.description())
+                .skills(document.skills())
+                .status(document.status())
+                .postedDate(document.postedDate())
+                .applicationsCount(document.applicationsCount())
+                .viewsCount(jobViewCounter.totalViews(document.id(), document.viewsCount()))
+                .seniority(document.seniority())
+                .logo(document.logo())
+                .isRemote(document.isRemote())
+                .educationRequired(document.educationRequired())
+                .employerId(document.employerId())
+                .createdAt(document.createdAt())
+                .updatedAt(document.updatedAt())
+                .build();
+    }
+}
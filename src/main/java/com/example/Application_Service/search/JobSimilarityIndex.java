@@ -0,0 +1,383 @@
+package com.example.Application_Service.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Top-N most similar jobs per Published job, kept up to date as jobs change.
+ *
+ * Similarity is weighted Jaccard over a job's features: its normalized skills, seniority, location
+ * and type, each with a fixed weight (shared weight / weight of the union). Only jobs sharing at least
+ * one skill are compared: a skill index maps each skill to its jobs, and the shared skill weight of all
+ * candidates is accumulated from those postings into an array indexed by job ordinal. Adding a job
+ * compares it with its candidates only and offers it to each of their lists; removing one rebuilds the
+ * lists that held it, found through reverse edges, but only when such a list was full (a shorter list
+ * already holds every candidate). Reads share a read lock, updates take the write lock.
+ */
+public class JobSimilarityIndex {
+
+    static final float SKILL_WEIGHT = 1f;
+    static final float SENIORITY_WEIGHT = 1f;
+    static final float LOCATION_WEIGHT = 0.75f;
+    static final float TYPE_WEIGHT = 0.5f;
+
+    /**
+     * A similar job and its similarity in (0, 1]
+     */
+    public record Neighbor(JobDocument document, float similarity) {}
+
+    // Most similar first; ties newest (highest id) first
+    private static final Comparator<Neighbor> ORDER = (a, b) ->
+        compare(a.similarity(), a.document().id(), b.similarity(), b.document().id());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int neighborCount;
+
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private final Map<String, Postings> jobsBySkill = new HashMap<>();
+    // Seniority, location and type values as small ints, so comparing them is an int compare
+    private final Map<String, Integer> valueCodes = new HashMap<>();
+    // Indexed by ordinal; ordinals of removed jobs are reused
+    private final List<Node> byOrdinal = new ArrayList<>();
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    // Scratch space of accumulate(), only used under the write lock
+    private float[] sharedSkillWeight = new float[0];
+    private int[] touched = new int[0];
+
+    public JobSimilarityIndex(int neighborCount) {
+        this.neighborCount = neighborCount;
+    }
+
+    /**
+     * Add a job or replace the indexed version of it
+     */
+    public void upsert(JobDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            Node node = addLocked(document);
+            PriorityQueue<Neighbor> best = new PriorityQueue<>(ORDER.reversed());
+            int count = accumulate(node);
+            for (int i = 0; i < count; i++) {
+                Node other = byOrdinal.get(touched[i]);
+                float similarity = takeSimilarity(node, other);
+                // Similarity is symmetric, but the job may rank in a candidate's list without that
+                // candidate ranking in its own, so every candidate gets the offer
+                offer(other, node, similarity);
+                keepBest(best, other, similarity);
+            }
+            for (Neighbor neighbor : sorted(best)) {
+                link(node, neighbor);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the whole content, e.g. after loading all Published jobs
+     */
+    public void replaceAll(List<JobDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            jobsBySkill.clear();
+            valueCodes.clear();
+            byOrdinal.clear();
+            freeOrdinals.clear();
+            documents.forEach(this::addLocked);
+            for (Node node : byOrdinal) {
+                fillNeighbors(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} jobs most similar to the given one, most similar first; empty when the
+     * job is not indexed
+     */
+    public List<Neighbor> neighbors(Long jobId, int limit) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(jobId);
+            if (node == null) {
+                return List.of();
+            }
+            return List.copyOf(node.neighbors.subList(0, Math.min(limit, node.neighbors.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int skillCount() {
+        lock.readLock().lock();
+        try {
+            return jobsBySkill.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node addLocked(JobDocument document) {
+        Integer free = freeOrdinals.poll();
+        int ordinal = free != null ? free : byOrdinal.size();
+        Node node = new Node(document, ordinal, this::code);
+        if (free != null) {
+            byOrdinal.set(ordinal, node);
+        } else {
+            byOrdinal.add(node);
+        }
+        nodes.put(document.id(), node);
+        for (String skill : node.skills) {
+            jobsBySkill.computeIfAbsent(skill, key -> new Postings()).add(ordinal);
+        }
+        return node;
+    }
+
+    private void removeLocked(Long jobId) {
+        Node node = nodes.remove(jobId);
+        if (node == null) {
+            return;
+        }
+        for (String skill : node.skills) {
+            Postings jobs = jobsBySkill.get(skill);
+            jobs.remove(node.ordinal);
+            if (jobs.size == 0) {
+                jobsBySkill.remove(skill);
+            }
+        }
+        byOrdinal.set(node.ordinal, null);
+        freeOrdinals.push(node.ordinal);
+
+        for (Neighbor neighbor : node.neighbors) {
+            nodes.get(neighbor.document().id()).referencedBy.remove(node);
+        }
+        for (Node referrer : node.referencedBy) {
+            boolean wasFull = referrer.neighbors.size() >= neighborCount;
+            referrer.neighbors.removeIf(neighbor -> neighbor.document().id().equals(jobId));
+            if (wasFull) {
+                // A candidate that did not make the full list may belong in it now
+                for (Neighbor neighbor : referrer.neighbors) {
+                    nodes.get(neighbor.document().id()).referencedBy.remove(referrer);
+                }
+                referrer.neighbors.clear();
+                fillNeighbors(referrer);
+            }
+        }
+    }
+
+    // Build the list of a node from scratch: the best neighborCount jobs sharing a skill with it
+    private void fillNeighbors(Node node) {
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(ORDER.reversed());
+        int count = accumulate(node);
+        for (int i = 0; i < count; i++) {
+            Node other = byOrdinal.get(touched[i]);
+            keepBest(best, other, takeSimilarity(node, other));
+        }
+        for (Neighbor neighbor : sorted(best)) {
+            link(node, neighbor);
+        }
+    }
+
+    /**
+     * Add up the shared skill weight of every job sharing a skill with {@code node}; their ordinals
+     * are the first {@code count} entries of {@code touched}. Each must be read with takeSimilarity.
+     */
+    private int accumulate(Node node) {
+        if (sharedSkillWeight.length < byOrdinal.size()) {
+            int capacity = Math.max(byOrdinal.size(), sharedSkillWeight.length * 2);
+            sharedSkillWeight = Arrays.copyOf(sharedSkillWeight, capacity);
+            touched = Arrays.copyOf(touched, capacity);
+        }
+        int count = 0;
+        for (String skill : node.skills) {
+            Postings jobs = jobsBySkill.get(skill);
+            for (int i = 0; i < jobs.size; i++) {
+                int other = jobs.ordinals[i];
+                if (other == node.ordinal) {
+                    continue;
+                }
+                if (sharedSkillWeight[other] == 0) {
+                    touched[count++] = other;
+                }
+                sharedSkillWeight[other] += SKILL_WEIGHT;
+            }
+        }
+        return count;
+    }
+
+    // Similarity of an accumulated candidate; clears its slot for the next accumulate()
+    private float takeSimilarity(Node node, Node other) {
+        float shared = sharedSkillWeight[other.ordinal];
+        sharedSkillWeight[other.ordinal] = 0;
+        if (node.seniority >= 0 && node.seniority == other.seniority) {
+            shared += SENIORITY_WEIGHT;
+        }
+        if (node.location >= 0 && node.location == other.location) {
+            shared += LOCATION_WEIGHT;
+        }
+        if (node.type >= 0 && node.type == other.type) {
+            shared += TYPE_WEIGHT;
+        }
+        return shared / (node.weight + other.weight - shared);
+    }
+
+    // Heap head is the worst kept neighbor; Neighbor objects are only created for jobs that get in
+    private void keepBest(PriorityQueue<Neighbor> best, Node other, float similarity) {
+        if (best.size() >= neighborCount) {
+            Neighbor worst = best.peek();
+            if (compare(similarity, other.document.id(), worst.similarity(), worst.document().id()) >= 0) {
+                return;
+            }
+            best.poll();
+        }
+        best.offer(new Neighbor(other.document, similarity));
+    }
+
+    private static List<Neighbor> sorted(PriorityQueue<Neighbor> best) {
+        List<Neighbor> neighbors = new ArrayList<>(best);
+        neighbors.sort(ORDER);
+        return neighbors;
+    }
+
+    // Append to an owner's list built in order, recording the reverse edge
+    private void link(Node owner, Neighbor neighbor) {
+        owner.neighbors.add(neighbor);
+        nodes.get(neighbor.document().id()).referencedBy.add(owner);
+    }
+
+    // Insert into an existing list if it has room or the candidate beats its last entry
+    private void offer(Node owner, Node candidate, float similarity) {
+        List<Neighbor> neighbors = owner.neighbors;
+        Long candidateId = candidate.document.id();
+        if (neighbors.size() >= neighborCount) {
+            Neighbor last = neighbors.get(neighbors.size() - 1);
+            if (compare(similarity, candidateId, last.similarity(), last.document().id()) >= 0) {
+                return;
+            }
+            neighbors.remove(neighbors.size() - 1);
+            nodes.get(last.document().id()).referencedBy.remove(owner);
+        }
+        int position = 0;
+        while (position < neighbors.size()) {
+            Neighbor next = neighbors.get(position);
+            if (compare(next.similarity(), next.document().id(), similarity, candidateId) >= 0) {
+                break;
+            }
+            position++;
+        }
+        neighbors.add(position, new Neighbor(candidate.document, similarity));
+        candidate.referencedBy.add(owner);
+    }
+
+    private static int compare(float similarityA, Long idA, float similarityB, Long idB) {
+        int bySimilarity = Float.compare(similarityB, similarityA);
+        return bySimilarity != 0 ? bySimilarity : idB.compareTo(idA);
+    }
+
+    private static String normalizeSkill(String skill) {
+        return String.join(" ", Tokenizer.tokenize(skill));
+    }
+
+    // Code of a normalized seniority, location or type value; -1 when missing
+    private int code(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        return valueCodes.computeIfAbsent(value.trim().toLowerCase(Locale.ROOT), key -> valueCodes.size());
+    }
+
+    /**
+     * Ordinals of the jobs having one skill, in no particular order
+     */
+    private static final class Postings {
+
+        int[] ordinals = new int[4];
+        int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        void remove(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    ordinals[i] = ordinals[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Node {
+
+        final JobDocument document;
+        final int ordinal;
+        final String[] skills;
+        final int seniority;
+        final int location;
+        final int type;
+        // Total feature weight of the job
+        final float weight;
+        // Most similar first, at most neighborCount
+        final List<Neighbor> neighbors = new ArrayList<>();
+        // Jobs whose neighbor list holds this job
+        final Set<Node> referencedBy = new HashSet<>();
+
+        Node(JobDocument document, int ordinal, ToIntFunction<String> codes) {
+            this.document = document;
+            this.ordinal = ordinal;
+            Set<String> normalized = new LinkedHashSet<>();
+            for (String skill : document.skills()) {
+                String key = normalizeSkill(skill);
+                if (!key.isEmpty()) {
+                    normalized.add(key);
+                }
+            }
+            this.skills = normalized.toArray(String[]::new);
+            this.seniority = codes.applyAsInt(document.seniority());
+            this.location = codes.applyAsInt(document.location());
+            this.type = codes.applyAsInt(document.type());
+            this.weight = skills.length * SKILL_WEIGHT
+                + (seniority >= 0 ? SENIORITY_WEIGHT : 0)
+                + (location >= 0 ? LOCATION_WEIGHT : 0)
+                + (type >= 0 ? TYPE_WEIGHT : 0);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.domain.entity.Job;
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.exception.InvalidExportRequestException;
+import com.example.Application_Service.exception.JobNotFoundException;
+import com.example.Application_Service.exception.UnauthorizedAccessException;
+import com.example.Application_Service.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams all applications of a job as CSV or NDJSON.
+ *
+ * Rows come from a forward-only JDBC cursor (fetch size {@code applications.export.fetch-size})
+ * and are written straight to the response, so memory stays constant however many applicants
+ * a job has, and no entities are loaded.
+ */
+@Service
+@Slf4j
+public class ApplicationExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Exportable columns: name used in the request and output, and the applications column it reads
+     */
+    public enum Column {
+        ID("id", "id", Kind.TEXT),
+        USER_ID("userId", "user_id", Kind.TEXT),
+        APPLICANT_NAME("applicantName", "applicant_name", Kind.TEXT),
+        APPLICANT_EMAIL("applicantEmail", "applicant_email", Kind.TEXT),
+        STATUS("status", "status", Kind.TEXT),
+        APPLIED_DATE("appliedDate", "applied_date", Kind.DATE),
+        RESUME_ID("resumeId", "resume_id", Kind.TEXT),
+        RESUME_FILE_NAME("resumeFileName", "resume_file_name", Kind.TEXT),
+        COVER_LETTER("coverLetter", "cover_letter", Kind.TEXT),
+        REJECTION_REASON("rejectionReason", "rejection_reason", Kind.TEXT),
+        WITHDRAWN_DATE("withdrawnDate", "withdrawn_date", Kind.LOCAL_DATE_TIME),
+        CREATED_AT("createdAt", "created_at", Kind.INSTANT),
+        UPDATED_AT("updatedAt", "updated_at", Kind.INSTANT);
+
+        private final String fieldName;
+        private final String sqlColumn;
+        private final Kind kind;
+
+        Column(String fieldName, String sqlColumn, Kind kind) {
+            this.fieldName = fieldName;
+            this.sqlColumn = sqlColumn;
+            this.kind = kind;
+        }
+
+        public String fieldName() {
+            return fieldName;
+        }
+
+        static Column fromFieldName(String name) {
+            for (Column column : values()) {
+                if (column.fieldName.equalsIgnoreCase(name)) {
+                    return column;
+                }
+            }
+            throw new InvalidExportRequestException("Unknown export column: " + name
+                + ". Allowed: " + Arrays.stream(values()).map(Column::fieldName).collect(Collectors.joining(", ")));
+        }
+
+        /**
+         * Value as text (ISO-8601 for dates and times), null for SQL NULL
+         */
+        String read(ResultSet rs, int index) throws SQLException {
+            return switch (kind) {
+                case TEXT -> rs.getString(index);
+                case DATE -> {
+                    Date date = rs.getDate(index);
+                    yield date != null ? date.toLocalDate().toString() : null;
+                }
+                case LOCAL_DATE_TIME -> {
+                    Timestamp ts = rs.getTimestamp(index);
+                    yield ts != null ? ts.toLocalDateTime().toString() : null;
+                }
+                case INSTANT -> {
+                    Timestamp ts = rs.getTimestamp(index);
+                    yield ts != null ? ts.toInstant().toString() : null;
+                }
+            };
+        }
+    }
+
+    private enum Kind { TEXT, DATE, LOCAL_DATE_TIME, INSTANT }
+
+    /**
+     * A validated export: what to select and how to write it
+     */
+    public record ExportSpec(Long jobId, Format format, List<ApplicationStatus> statuses, List<Column> columns) {
+
+        public String fileName() {
+            return "applications-job-" + jobId + "." + format.extension();
+        }
+    }
+
+    private static final List<Column> DEFAULT_COLUMNS = List.of(
+        Column.ID, Column.APPLICANT_NAME, Column.APPLICANT_EMAIL, Column.STATUS,
+        Column.APPLIED_DATE, Column.RESUME_FILE_NAME, Column.CREATED_AT);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobRepository jobRepository;
+    private final int fetchSize;
+
+    public ApplicationExportService(JdbcTemplate jdbcTemplate,
+                                    JobRepository jobRepository,
+                                    @Value("${applications.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobRepository = jobRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Check ownership and parameters before anything is written to the response
+     */
+    public ExportSpec prepare(Long jobId, String employerId, String format, List<String> statuses, List<String> columns) {
+        Job job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + jobId));
+        if (!job.getEmployerId().equals(employerId)) {
+            throw new UnauthorizedAccessException("Not authorized to export applications for this job");
+        }
+
+        Format parsedFormat;
+        try {
+            parsedFormat = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidExportRequestException("Unknown export format: " + format + ". Allowed: csv, ndjson");
+        }
+
+        List<ApplicationStatus> parsedStatuses = new ArrayList<>();
+        if (statuses != null) {
+            for (String status : statuses) {
+                try {
+                    parsedStatuses.add(ApplicationStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)));
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidExportRequestException("Unknown application status: " + status);
+                }
+            }
+        }
+
+        List<Column> parsedColumns = DEFAULT_COLUMNS;
+        if (columns != null && !columns.isEmpty()) {
+            Set<Column> selected = new LinkedHashSet<>();
+            for (String column : columns) {
+                selected.add(Column.fromFieldName(column.trim()));
+            }
+            parsedColumns = List.copyOf(selected);
+        }
+
+        return new ExportSpec(jobId, parsedFormat, List.copyOf(parsedStatuses), parsedColumns);
+    }
+
+    /**
+     * Stream the selected applications to {@code out}. Holds one connection (and a read-only
+     * transaction, which the PostgreSQL driver needs for a cursor) until the last row is written.
+     */
+    @Transactional(readOnly = true)
+    public long write(ExportSpec spec, OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append(spec.columns().stream().map(c -> c.sqlColumn).collect(Collectors.joining(", ")));
+        sql.append(" FROM applications WHERE job_id = ?");
+        if (!spec.statuses().isEmpty()) {
+            sql.append(" AND status IN (")
+               .append(spec.statuses().stream().map(s -> "?").collect(Collectors.joining(", ")))
+               .append(")");
+        }
+        sql.append(" ORDER BY created_at, id");
+
+        RowWriter rowWriter = spec.format() == Format.CSV
+            ? new CsvRowWriter(out, spec.columns())
+            : new NdjsonRowWriter(out, spec.columns());
+        long[] rows = {0};
+        try {
+            rowWriter.start();
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                int index = 1;
+                ps.setLong(index++, spec.jobId());
+                for (ApplicationStatus status : spec.statuses()) {
+                    ps.setString(index++, status.name());
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    rowWriter.row(rs);
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            rowWriter.finish();
+        } catch (UncheckedIOException e) {
+            // Client disconnected mid-export; the cursor is closed with the statement
+            throw e.getCause();
+        }
+
+        log.info("Exported {} applications of job {} as {}", rows[0], spec.jobId(), spec.format());
+        return rows[0];
+    }
+
+    private interface RowWriter {
+        void start() throws IOException;
+
+        void row(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final List<Column> columns;
+
+        CsvRowWriter(OutputStream out, List<Column> columns) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+        }
+
+        @Override
+        public void start() throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(columns.get(i).fieldName());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = columns.get(i).read(rs, i + 1);
+                if (value != null) {
+                    writeField(value);
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        /**
+         * RFC 4180 quoting; values a spreadsheet would treat as a formula get a leading quote
+         */
+        private void writeField(String value) throws IOException {
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final List<Column> columns;
+
+        NdjsonRowWriter(OutputStream out, List<Column> columns) {
+            try {
+                this.generator = JSON_FACTORY.createGenerator(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // The servlet output stream belongs to the container
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Rows are ended by our own '\n'; the default separator would start the next one with a space
+            this.generator.setRootValueSeparator(null);
+            this.columns = columns;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void row(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeStringField(columns.get(i).fieldName(), columns.get(i).read(rs, i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -5,19 +5,31 @@ import com.example.Application_Service.domain.entity.Job;
 import com.example.Application_Service.domain.enums.ApplicationStatus;
 import com.example.Application_Service.domain.enums.JobStatus;
 import com.example.Application_Service.dto.ApplicationEventData;
+import com.example.Application_Service.dto.PageCursor;
+import com.example.Application_Service.dto.request.BulkStatusUpdateRequest;
 import com.example.Application_Service.dto.request.SubmitApplicationRequest;
 import com.example.Application_Service.dto.response.ApplicationDetailsResponse;
 import com.example.Application_Service.dto.response.ApplicationResponse;
 import com.example.Application_Service.dto.response.ApplicationStatsResponse;
+import com.example.Application_Service.dto.response.BulkStatusUpdateResponse;
 import com.example.Application_Service.dto.response.PagedResponse;
 import com.example.Application_Service.exception.AlreadyAppliedException;
 import com.example.Application_Service.exception.ApplicationNotFoundException;
+import com.example.Application_Service.exception.ApplicationStatusConflictException;
 import com.example.Application_Service.exception.CannotWithdrawException;
+import com.example.Application_Service.exception.InvalidStatusTransitionException;
 import com.example.Application_Service.exception.JobNotFoundException;
 import com.example.Application_Service.exception.UnauthorizedAccessException;
-import com.example.Application_Service.kafka.ProfileEventProducer;
+import com.example.Application_Service.kafka.ApplicationEventOutbox;
+import com.example.Application_Service.repository.ApplicationCommandRepository;
 import com.example.Application_Service.repository.ApplicationRepository;
+import com.example.Application_Service.repository.ApplicationViewRepository;
 import com.example.Application_Service.repository.JobRepository;
+import com.example.Application_Service.repository.projection.ApplicationSummary;
+import com.example.Application_Service.repository.projection.ApplicationTransition;
+import com.example.Application_Service.repository.projection.JobSummary;
+import com.example.Application_Service.repository.projection.ResumeAccess;
+import com.example.Application_Service.repository.projection.StatusChange;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -25,9 +37,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -35,10 +46,15 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Base64;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -49,14 +65,35 @@ public class ApplicationService {
     
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
-    private final ProfileEventProducer profileEventProducer;
+    private final ApplicationEventOutbox applicationEventOutbox;
+    private final ApplicationStatsService applicationStatsService;
+    private final JobPipelineService jobPipelineService;
+    private final ApplicationCommandRepository applicationCommandRepository;
+    private final JobStatusCache jobStatusCache;
+    private final IdempotencyService idempotencyService;
+    private final ApplicationViewRepository applicationViewRepository;
+    private final ApplicationViewService applicationViewService;
 
     public ApplicationService(ApplicationRepository applicationRepository, 
+                              ApplicationCommandRepository applicationCommandRepository,
                               JobRepository jobRepository,
-                              ProfileEventProducer profileEventProducer) {
+                              ApplicationEventOutbox applicationEventOutbox,
+                              ApplicationStatsService applicationStatsService,
+                              JobPipelineService jobPipelineService,
+                              JobStatusCache jobStatusCache,
+                              IdempotencyService idempotencyService,
+                              ApplicationViewRepository applicationViewRepository,
+                              ApplicationViewService applicationViewService) {
         this.applicationRepository = applicationRepository;
+        this.applicationCommandRepository = applicationCommandRepository;
         this.jobRepository = jobRepository;
-        this.profileEventProducer = profileEventProducer;
+        this.applicationEventOutbox = applicationEventOutbox;
+        this.applicationStatsService = applicationStatsService;
+        this.jobPipelineService = jobPipelineService;
+        this.jobStatusCache = jobStatusCache;
+        this.idempotencyService = idempotencyService;
+        this.applicationViewRepository = applicationViewRepository;
+        this.applicationViewService = applicationViewService;
     }
 
     /**
@@ -123,8 +160,8 @@ public class ApplicationService {
     /**
      * Get resume and mark it as viewed.
      * This method:
-     * 1. Retrieves the resume data
-     * 2. Updates application status to RESUME_VIEWED (if currently APPLIED)
+     * 1. Retrieves the resume data together with the job owner (one query, no entity load)
+     * 2. Updates application status to RESUME_VIEWED with a conditional update (if currently APPLIED)
      * 3. Publishes Kafka event for notification
      * 
      * @param applicationId The application ID
@@ -133,76 +170,50 @@ public class ApplicationService {
      */
     @Transactional
     public ResumeData viewResume(String applicationId, String employerId) {
-        Application application = applicationRepository.findById(applicationId)
+        ResumeAccess resume = applicationCommandRepository.findResume(applicationId)
             .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId));
         
-        // Get job to verify employer ownership
-        Job job = jobRepository.findById(application.getJobId())
-            .orElseThrow(() -> new JobNotFoundException("Job not found"));
-        
         // Verify employer owns this job
-        if (!job.getEmployerId().equals(employerId)) {
+        if (!resume.jobEmployerId().equals(employerId)) {
             throw new UnauthorizedAccessException("Employer does not have permission to view this resume");
         }
         
         // Check if resume exists
-        if (application.getResumeData() == null) {
+        if (resume.resumeData() == null) {
             logger.error("No resume data found for application: {}", applicationId);
             return null;
         }
         
-        // Update status to RESUME_VIEWED if currently APPLIED
-        boolean statusUpdated = false;
-        if (application.getStatus() == ApplicationStatus.APPLIED) {
-            ApplicationStatus oldStatus = application.getStatus();
-            application.setStatus(ApplicationStatus.RESUME_VIEWED);
-            application.setUpdatedAt(Instant.now());
-            applicationRepository.save(application);
-            statusUpdated = true;
-            logger.info("Application status updated from {} to {} for application: {}", 
-                oldStatus, ApplicationStatus.RESUME_VIEWED, applicationId);
+        // Update status to RESUME_VIEWED if currently APPLIED. The update only matches an APPLIED row,
+        // so a concurrent status change wins and the counters are only moved for the row we changed.
+        if (resume.status() == ApplicationStatus.APPLIED) {
+            applicationCommandRepository.transitionAsEmployer(applicationId, employerId, ApplicationStatus.RESUME_VIEWED, null)
+                .ifPresent(updated -> {
+                    applicationStatsService.recordTransition(updated.userId(), updated.previousStatus(), updated.status());
+                    jobPipelineService.recordTransition(updated.jobId(), updated.previousStatus(), updated.status());
+                    logger.info("Application status updated from {} to {} for application: {}", 
+                        updated.previousStatus(), updated.status(), applicationId);
+                });
         }
         
-        // Publish Kafka event for RESUME_VIEWED
+        // Queue RESUME_VIEWED event in the outbox (same transaction as the status change)
         // We publish the event regardless of whether status was updated (to handle re-viewing)
-        try {
-            // Use stored applicant details from the application
-            String applicantName = application.getApplicantName();
-            String applicantEmail = application.getApplicantEmail();
-            
-            ApplicationEventData eventData = ApplicationEventData.resumeViewedApplication(
-                application.getId(),
-                job.getId(),
-                job.getTitle(),
-                job.getCompany(),
-                job.getCompanyId(),
-                job.getEmployerId(),
-                application.getUserId(),
-                applicantName,
-                applicantEmail
-            );
-            
-            // Use afterCommit to ensure Kafka event is published only after transaction commits
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    try {
-                        profileEventProducer.publishEnhancedApplicationEvent(eventData);
-                        logger.info("RESUME_VIEWED Kafka event published for application: {}", applicationId);
-                    } catch (Exception e) {
-                        logger.error("Failed to publish RESUME_VIEWED event: {}", e.getMessage());
-                    }
-                }
-            });
-        } catch (Exception e) {
-            logger.error("Failed to prepare RESUME_VIEWED event: {}", e.getMessage());
-            // Don't fail the resume view if event publishing fails
-        }
+        applicationEventOutbox.enqueue(ApplicationEventData.resumeViewedApplication(
+            resume.applicationId(),
+            resume.jobId(),
+            resume.jobTitle(),
+            resume.jobCompany(),
+            resume.jobCompanyId(),
+            resume.jobEmployerId(),
+            resume.userId(),
+            resume.applicantName(),
+            resume.applicantEmail()
+        ));
         
         return new ResumeData(
-            application.getResumeData(),
-            application.getResumeFileName(),
-            application.getResumeContentType()
+            resume.resumeData(),
+            resume.resumeFileName(),
+            resume.resumeContentType()
         );
     }
 
@@ -222,21 +233,24 @@ public class ApplicationService {
      * Submit a new job application
      */
     @Transactional
-    public ApplicationDetailsResponse submitApplication(SubmitApplicationRequest request, String userId) {
-        // Check if job exists
-        Job job = jobRepository.findById(request.getJobId())
+    public SubmitResult submitApplication(SubmitApplicationRequest request, String userId, String idempotencyKey) {
+        // A retry with the same Idempotency-Key gets the stored response of the first attempt
+        if (idempotencyKey != null) {
+            Optional<ApplicationDetailsResponse> stored = idempotencyService.findSubmission(userId, idempotencyKey, request.getJobId());
+            if (stored.isPresent()) {
+                logger.info("Replaying submission for idempotency key {} of user {}", idempotencyKey, userId);
+                return new SubmitResult(stored.get(), true);
+            }
+        }
+        
+        // Check if job exists and is active (served from the in-memory job cache)
+        JobSummary job = jobStatusCache.get(request.getJobId())
             .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + request.getJobId()));
         
-        // Check if job is active
-        if (!"Published".equals(job.getStatus())) {
+        if (!job.isPublished()) {
             throw new IllegalArgumentException("Cannot apply to job that is not active");
         }
         
-        // Check if user already applied
-        if (applicationRepository.existsByUserIdAndJobId(userId, request.getJobId())) {
-            throw new AlreadyAppliedException("User has already applied for this job");
-        }
-        
         // Get applicant details directly from request (provided by frontend/API Gateway)
         String applicantName = request.getApplicantName();
         String applicantEmail = request.getApplicantEmail();
@@ -289,40 +303,52 @@ public class ApplicationService {
             }
         }
         
-        Application savedApplication = applicationRepository.save(application);
-        logger.info("Application submitted successfully: {}", savedApplication.getId());
-        
-        // Prepare event data (but don't publish yet)
-        final ApplicationEventData eventData = ApplicationEventData.submittedApplication(
-            savedApplication.getId(),
-            job.getId(),
-            job.getTitle(),
-            job.getCompany(),
-            job.getCompanyId(),
-            job.getEmployerId(),
+        // Single insert; the unique (user_id, job_id) constraint detects a duplicate submission
+        Optional<Instant> createdAt = applicationCommandRepository.insertIfAbsent(application);
+        if (createdAt.isEmpty()) {
+            // A concurrent retry with the same key may have won the insert; replay its response
+            if (idempotencyKey != null) {
+                Optional<ApplicationDetailsResponse> stored = idempotencyService.findSubmission(userId, idempotencyKey, request.getJobId());
+                if (stored.isPresent()) {
+                    return new SubmitResult(stored.get(), true);
+                }
+            }
+            throw new AlreadyAppliedException("User has already applied for this job");
+        }
+        application.setCreatedAt(createdAt.get());
+        application.setUpdatedAt(createdAt.get());
+        
+        applicationStatsService.recordSubmission(userId, application.getAppliedDate());
+        jobPipelineService.recordSubmission(application.getJobId());
+        logger.info("Application submitted successfully: {}", application.getId());
+        
+        // Queue the event in the outbox; it is relayed to Kafka only if this transaction commits
+        applicationEventOutbox.enqueue(ApplicationEventData.submittedApplication(
+            application.getId(),
+            job.id(),
+            job.title(),
+            job.company(),
+            job.companyId(),
+            job.employerId(),
             userId,
             applicantName,
             applicantEmail,
             request.getResumeId(),
-            savedApplication.getAppliedDate().toString()
-        );
-        
-        // Publish to Kafka ONLY after transaction commits successfully
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                try {
-                    profileEventProducer.publishEnhancedApplicationEvent(eventData);
-                    logger.info("Kafka event published after successful commit for application: {}", savedApplication.getId());
-                } catch (Exception e) {
-                    logger.error("Failed to publish Kafka event after commit: {}", e.getMessage());
-                }
-            }
-        });
+            application.getAppliedDate().toString()
+        ));
         
-        return mapToDetailsResponse(savedApplication);
+        ApplicationDetailsResponse response = mapToDetailsResponse(application, job);
+        if (idempotencyKey != null) {
+            idempotencyService.storeSubmission(userId, idempotencyKey, job.id(), response);
+        }
+        return new SubmitResult(response, false);
     }
 
+    /**
+     * Outcome of a submission: the response, and whether it was replayed for a repeated Idempotency-Key
+     */
+    public record SubmitResult(ApplicationDetailsResponse response, boolean replayed) {}
+
     /**
      * Get all applications for a user with pagination
      */
@@ -336,7 +362,9 @@ public class ApplicationService {
         int pageNumber = page > 0 ? page - 1 : 0;
         Pageable pageable = PageRequest.of(pageNumber, limit, sort);
         
-        Page<Application> applications = applicationRepository.findByUserId(userId, pageable);
+        Page<ApplicationSummary> applications = applicationViewService.isReady()
+            ? applicationViewRepository.findSummariesByUserId(userId, pageable)
+            : applicationRepository.findSummariesByUserId(userId, pageable);
         
         logger.info("🔍 [DEBUG] Found {} applications", applications.getTotalElements());
 
@@ -367,12 +395,16 @@ public class ApplicationService {
         int pageNumber = page > 0 ? page - 1 : 0;
         Pageable pageable = PageRequest.of(pageNumber, limit, sort);
         
-        Page<Application> applications;
+        Page<ApplicationSummary> applications;
         if (status != null && !status.isEmpty()) {
             ApplicationStatus statusEnum = ApplicationStatus.valueOf(status.toUpperCase());
-            applications = applicationRepository.findByJobIdAndStatus(jobId, statusEnum, pageable);
+            applications = applicationViewService.isReady()
+                ? applicationViewRepository.findSummariesByJobIdAndStatus(jobId, statusEnum, pageable)
+                : applicationRepository.findSummariesByJobIdAndStatus(jobId, statusEnum, pageable);
         } else {
-            applications = applicationRepository.findByJobId(jobId, pageable);
+            applications = applicationViewService.isReady()
+                ? applicationViewRepository.findSummariesByJobId(jobId, pageable)
+                : applicationRepository.findSummariesByJobId(jobId, pageable);
         }
         
         List<ApplicationResponse> applicationResponses = applications.getContent().stream()
@@ -392,6 +424,93 @@ public class ApplicationService {
             .build();
     }
 
+    /**
+     * Get a user's applications using keyset pagination (newest first).
+     * Pass an empty cursor for the first page and the returned nextCursor for the following ones.
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<ApplicationResponse> getUserApplicationsWithCursor(String userId, String cursor, int limit, boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, limit + 1);
+        
+        List<ApplicationSummary> rows;
+        Long total;
+        if (applicationViewService.isReady()) {
+            rows = after == null
+                ? applicationViewRepository.findSummariesByUserIdFirst(userId, window)
+                : applicationViewRepository.findSummariesByUserIdBefore(userId, after.sortKeyAsInstant(), after.id(), window);
+            total = includeTotal ? applicationViewRepository.countByUserId(userId) : null;
+        } else {
+            rows = after == null
+                ? applicationRepository.findSummariesByUserIdFirst(userId, window)
+                : applicationRepository.findSummariesByUserIdBefore(userId, after.sortKeyAsInstant(), after.id(), window);
+            total = includeTotal ? applicationRepository.countByUserId(userId) : null;
+        }
+        return toCursorPage(rows, limit, total);
+    }
+
+    /**
+     * Get all applications for a specific job (for employer) using keyset pagination (newest first)
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<ApplicationResponse> getApplicationsByJobIdWithCursor(Long jobId, String status, String cursor, int limit, boolean includeTotal) {
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, limit + 1);
+        boolean fromView = applicationViewService.isReady();
+        
+        List<ApplicationSummary> rows;
+        Long total = null;
+        if (status != null && !status.isEmpty()) {
+            ApplicationStatus statusEnum = ApplicationStatus.valueOf(status.toUpperCase());
+            if (fromView) {
+                rows = after == null
+                    ? applicationViewRepository.findSummariesByJobIdAndStatusFirst(jobId, statusEnum, window)
+                    : applicationViewRepository.findSummariesByJobIdAndStatusBefore(jobId, statusEnum, after.sortKeyAsInstant(), after.id(), window);
+            } else {
+                rows = after == null
+                    ? applicationRepository.findSummariesByJobIdAndStatusFirst(jobId, statusEnum, window)
+                    : applicationRepository.findSummariesByJobIdAndStatusBefore(jobId, statusEnum, after.sortKeyAsInstant(), after.id(), window);
+            }
+            if (includeTotal) {
+                total = fromView
+                    ? applicationViewRepository.countByJobIdAndStatus(jobId, statusEnum)
+                    : applicationRepository.countByJobIdAndStatus(jobId, statusEnum);
+            }
+        } else {
+            if (fromView) {
+                rows = after == null
+                    ? applicationViewRepository.findSummariesByJobIdFirst(jobId, window)
+                    : applicationViewRepository.findSummariesByJobIdBefore(jobId, after.sortKeyAsInstant(), after.id(), window);
+            } else {
+                rows = after == null
+                    ? applicationRepository.findSummariesByJobIdFirst(jobId, window)
+                    : applicationRepository.findSummariesByJobIdBefore(jobId, after.sortKeyAsInstant(), after.id(), window);
+            }
+            if (includeTotal) {
+                total = fromView ? applicationViewRepository.countByJobId(jobId) : applicationRepository.countByJobId(jobId);
+            }
+        }
+        
+        return toCursorPage(rows, limit, total);
+    }
+
+    private PagedResponse<ApplicationResponse> toCursorPage(List<ApplicationSummary> rows, int limit, Long total) {
+        // One extra row was fetched to know whether another page exists
+        boolean hasMore = rows.size() > limit;
+        List<ApplicationSummary> page = hasMore ? rows.subList(0, limit) : rows;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationSummary last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.createdAt(), last.id()).encode();
+        }
+        
+        return PagedResponse.<ApplicationResponse>builder()
+            .applications(page.stream().map(this::mapToResponse).collect(Collectors.toList()))
+            .pagination(PagedResponse.PaginationInfo.forCursor(limit, nextCursor, total))
+            .build();
+    }
+
     /**
      * Get application details by ID
      */
@@ -428,188 +547,256 @@ public class ApplicationService {
      */
     @Transactional
     public ApplicationDetailsResponse withdrawApplication(String applicationId, String userId) {
-        Application application = applicationRepository.findById(applicationId)
-            .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId));
-        
-        // Verify ownership
-        if (!application.getUserId().equals(userId)) {
-            throw new UnauthorizedAccessException("User does not have permission to withdraw this application");
-        }
+        ApplicationTransition updated = applicationCommandRepository
+            .transitionAsApplicant(applicationId, userId, ApplicationStatus.WITHDRAWN)
+            .orElseThrow(() -> explainRejectedTransition(applicationId, userId, false, ApplicationStatus.WITHDRAWN));
         
-        // Cannot withdraw if already in terminal state
-        if (application.getStatus() == ApplicationStatus.REJECTED || 
-            application.getStatus() == ApplicationStatus.WITHDRAWN ||
-            application.getStatus() == ApplicationStatus.OFFERED) {
-            throw new CannotWithdrawException("Cannot withdraw application in status: " + application.getStatus());
-        }
+        applicationStatsService.recordTransition(userId, updated.previousStatus(), ApplicationStatus.WITHDRAWN);
+        jobPipelineService.recordTransition(updated.jobId(), updated.previousStatus(), ApplicationStatus.WITHDRAWN);
+        logger.info("Application withdrawn: {}", applicationId);
         
-        application.setStatus(ApplicationStatus.WITHDRAWN);
-        application.setUpdatedAt(Instant.now());
+        // Queue enhanced withdrawal event in the outbox
+        applicationEventOutbox.enqueue(ApplicationEventData.withdrawnApplication(
+            updated.id(),
+            updated.jobId(),
+            updated.jobTitle(),
+            updated.jobCompany(),
+            updated.jobCompanyId(),
+            updated.jobEmployerId(),
+            updated.userId(),
+            updated.applicantName(),
+            updated.applicantEmail(),
+            ApplicationStatus.WITHDRAWN.name()
+        ));
+        
+        return mapToDetailsResponse(updated);
+    }
+
+    /**
+     * Update application status (employer only)
+     */
+    @Transactional
+    public ApplicationDetailsResponse updateStatus(String applicationId, String status, String reason, String employerId) {
+        ApplicationStatus newStatus = ApplicationStatus.valueOf(status.toUpperCase());
         
-        // Get job details for the event
-        Job job = jobRepository.findById(application.getJobId())
-            .orElseThrow(() -> new JobNotFoundException("Job not found"));
+        if (newStatus == ApplicationStatus.WITHDRAWN) {
+            throw new InvalidStatusTransitionException("Cannot set status to WITHDRAWN. Use the withdraw endpoint.");
+        }
+        if (newStatus == ApplicationStatus.RESUME_VIEWED) {
+            throw new InvalidStatusTransitionException("RESUME_VIEWED is set automatically when the resume is opened.");
+        }
         
-        Application updatedApplication = applicationRepository.save(application);
-        logger.info("Application withdrawn: {}", applicationId);
+        // Rejection reason is only stored when moving to REJECTED
+        ApplicationTransition updated = applicationCommandRepository
+            .transitionAsEmployer(applicationId, employerId, newStatus, reason)
+            .orElseThrow(() -> explainRejectedTransition(applicationId, employerId, true, newStatus));
         
-        // Publish enhanced withdrawal event
-        try {
-            // Use stored applicant details from the application
-            String applicantName = application.getApplicantName();
-            String applicantEmail = application.getApplicantEmail();
-            
-            ApplicationEventData eventData = ApplicationEventData.withdrawnApplication(
-                application.getId(),
-                job.getId(),
-                job.getTitle(),
-                job.getCompany(),
-                job.getCompanyId(),
-                job.getEmployerId(),
-                application.getUserId(),
-                applicantName,
-                applicantEmail,
-                ApplicationStatus.WITHDRAWN.name()
-            );
-            
-            profileEventProducer.publishEnhancedApplicationEvent(eventData);
-        } catch (Exception e) {
-            logger.error("Failed to publish enhanced withdrawal event: {}", e.getMessage());
-        }
+        ApplicationStatus currentStatus = updated.previousStatus();
+        applicationStatsService.recordTransition(updated.userId(), currentStatus, newStatus);
+        jobPipelineService.recordTransition(updated.jobId(), currentStatus, newStatus);
+        logger.info("Application status updated: {} -> {}", applicationId, newStatus);
         
-        return mapToDetailsResponse(updatedApplication);
+        // Queue enhanced status update event in the outbox
+        applicationEventOutbox.enqueue(ApplicationEventData.statusUpdatedApplication(
+            updated.id(),
+            updated.jobId(),
+            updated.jobTitle(),
+            updated.jobCompany(),
+            updated.jobCompanyId(),
+            updated.jobEmployerId(),
+            updated.userId(),
+            updated.applicantName(),
+            updated.applicantEmail(),
+            currentStatus.name(),
+            newStatus.name()
+        ));
+        
+        return mapToDetailsResponse(updated);
     }
 
     /**
-     * Update application status (employer only)
+     * Update the status of many applications of one job (employer only).
+     * Ownership is checked once against the job, the transitions run as one set-based update,
+     * and the status-change events are queued in the outbox with one batch insert.
+     * Applications that are missing, belong to another job, or cannot reach the target status
+     * are reported per application instead of failing the whole request.
      */
     @Transactional
-    public ApplicationDetailsResponse updateStatus(String applicationId, String status, String reason, String employerId) {
-        Application application = applicationRepository.findById(applicationId)
-            .orElseThrow(() -> new ApplicationNotFoundException("Application not found with ID: " + applicationId));
+    public BulkStatusUpdateResponse bulkUpdateStatus(BulkStatusUpdateRequest request, String employerId) {
+        ApplicationStatus newStatus = ApplicationStatus.valueOf(request.getStatus().toUpperCase());
         
-        // Get the job to verify employer ownership
-        Job job = jobRepository.findById(application.getJobId())
-            .orElseThrow(() -> new JobNotFoundException("Job not found"));
+        if (newStatus == ApplicationStatus.WITHDRAWN) {
+            throw new InvalidStatusTransitionException("Cannot set status to WITHDRAWN. Use the withdraw endpoint.");
+        }
+        if (newStatus == ApplicationStatus.RESUME_VIEWED) {
+            throw new InvalidStatusTransitionException("RESUME_VIEWED is set automatically when the resume is opened.");
+        }
         
-        // Verify employer owns this job
+        Job job = jobRepository.findById(request.getJobId())
+            .orElseThrow(() -> new JobNotFoundException("Job not found with ID: " + request.getJobId()));
         if (!job.getEmployerId().equals(employerId)) {
             throw new UnauthorizedAccessException("Employer does not have permission to update applications for this job");
         }
         
-        ApplicationStatus currentStatus = application.getStatus();
-        ApplicationStatus newStatus = ApplicationStatus.valueOf(status.toUpperCase());
+        // Keep the caller's order for the response but update each application once
+        Set<String> applicationIds = new LinkedHashSet<>(request.getApplicationIds());
+        
+        List<StatusChange> changes = applicationCommandRepository.bulkTransition(
+            job.getId(), applicationIds, newStatus, request.getReason());
+        Map<String, StatusChange> changed = changes.stream()
+            .collect(Collectors.toMap(StatusChange::id, change -> change));
+        
+        recordStatusChanges(job.getId(), changes, newStatus);
+        
+        // Explain the applications that were not updated with one lookup
+        Set<String> unchanged = new LinkedHashSet<>(applicationIds);
+        unchanged.removeAll(changed.keySet());
+        Map<String, ApplicationStatus> currentStatuses = applicationCommandRepository.findStatuses(job.getId(), unchanged);
+        
+        List<BulkStatusUpdateResponse.Result> results = new ArrayList<>(applicationIds.size());
+        for (String applicationId : applicationIds) {
+            StatusChange change = changed.get(applicationId);
+            if (change != null) {
+                results.add(BulkStatusUpdateResponse.Result.builder()
+                    .applicationId(applicationId)
+                    .outcome(BulkStatusUpdateResponse.Outcome.UPDATED)
+                    .previousStatus(change.previousStatus().name())
+                    .build());
+                continue;
+            }
+            
+            ApplicationStatus current = currentStatuses.get(applicationId);
+            if (current == null) {
+                results.add(BulkStatusUpdateResponse.Result.builder()
+                    .applicationId(applicationId)
+                    .outcome(BulkStatusUpdateResponse.Outcome.NOT_FOUND)
+                    .message("Application not found for job " + job.getId())
+                    .build());
+            } else if (!current.canTransitionTo(newStatus)) {
+                results.add(BulkStatusUpdateResponse.Result.builder()
+                    .applicationId(applicationId)
+                    .outcome(BulkStatusUpdateResponse.Outcome.INVALID_TRANSITION)
+                    .previousStatus(current.name())
+                    .message("Invalid status transition from " + current + " to " + newStatus)
+                    .build());
+            } else {
+                results.add(BulkStatusUpdateResponse.Result.builder()
+                    .applicationId(applicationId)
+                    .outcome(BulkStatusUpdateResponse.Outcome.CONFLICT)
+                    .previousStatus(current.name())
+                    .message("Application was modified concurrently, please retry")
+                    .build());
+            }
+        }
         
-        // Validate status transition
-        validateStatusTransition(currentStatus, newStatus);
+        logger.info("Bulk status update for job {}: {} of {} applications moved to {}", 
+            job.getId(), changes.size(), applicationIds.size(), newStatus);
         
-        application.setStatus(newStatus);
-        application.setUpdatedAt(Instant.now());
+        enqueueStatusChangeEvents(job, changes, newStatus);
         
-        // Store rejection reason if provided
-        if (newStatus == ApplicationStatus.REJECTED && reason != null) {
-            application.setRejectionReason(reason);
+        return BulkStatusUpdateResponse.builder()
+            .jobId(job.getId())
+            .status(newStatus.name())
+            .requested(applicationIds.size())
+            .updated(changes.size())
+            .results(results)
+            .build();
+    }
+
+    /**
+     * Reject one chunk of a job's open applications in its own short transaction.
+     * Used when a job is closed; the caller loops until nothing is left.
+     * 
+     * @return number of applications rejected by this chunk, 0 when none were left to take
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int rejectOpenApplicationsChunk(Job job, String reason, int chunkSize, boolean skipLocked) {
+        List<StatusChange> changes = applicationCommandRepository.transitionChunk(
+            job.getId(), ApplicationStatus.REJECTED, reason, chunkSize, skipLocked);
+        
+        recordStatusChanges(job.getId(), changes, ApplicationStatus.REJECTED);
+        enqueueStatusChangeEvents(job, changes, ApplicationStatus.REJECTED);
+        return changes.size();
+    }
+
+    /**
+     * Counters for a set of applications of one job moved to the same status:
+     * per-user rows in a stable order (user stats before the job row, as for single updates),
+     * then one adjustment of the job pipeline for the whole set.
+     */
+    private void recordStatusChanges(Long jobId, List<StatusChange> changes, ApplicationStatus newStatus) {
+        Map<ApplicationStatus, Integer> pipelineDeltas = new EnumMap<>(ApplicationStatus.class);
+        changes.stream()
+            .sorted(Comparator.comparing(StatusChange::userId))
+            .forEach(change -> {
+                applicationStatsService.recordTransition(change.userId(), change.previousStatus(), newStatus);
+                pipelineDeltas.merge(change.previousStatus(), -1, Integer::sum);
+                pipelineDeltas.merge(newStatus, 1, Integer::sum);
+            });
+        jobPipelineService.recordTransitions(jobId, pipelineDeltas);
+    }
+
+    /**
+     * Queue the status-change events of a set of applications in the outbox with one JDBC batch
+     */
+    private void enqueueStatusChangeEvents(Job job, List<StatusChange> changes, ApplicationStatus newStatus) {
+        if (changes.isEmpty()) {
+            return;
         }
-        
-        Application updatedApplication = applicationRepository.save(application);
-        logger.info("Application status updated: {} -> {}", applicationId, newStatus);
-        
-        // Publish enhanced status update event
-        try {
-            // Use stored applicant details from the application
-            String applicantName = application.getApplicantName();
-            String applicantEmail = application.getApplicantEmail();
-            
-            ApplicationEventData eventData = ApplicationEventData.statusUpdatedApplication(
-                application.getId(),
+        List<ApplicationEventData> events = changes.stream()
+            .map(change -> ApplicationEventData.statusUpdatedApplication(
+                change.id(),
                 job.getId(),
                 job.getTitle(),
                 job.getCompany(),
                 job.getCompanyId(),
                 job.getEmployerId(),
-                application.getUserId(),
-                applicantName,
-                applicantEmail,
-                currentStatus.name(),
-                newStatus.name()
-            );
-            
-            profileEventProducer.publishEnhancedApplicationEvent(eventData);
-        } catch (Exception e) {
-            logger.error("Failed to publish enhanced status update event: {}", e.getMessage());
-        }
+                change.userId(),
+                change.applicantName(),
+                change.applicantEmail(),
+                change.previousStatus().name(),
+                newStatus.name()))
+            .collect(Collectors.toList());
         
-        return mapToDetailsResponse(updatedApplication);
+        applicationEventOutbox.enqueueAll(events);
     }
 
     /**
-     * Get application statistics for a user
+     * A conditional transition matched no row. Read the current state once to tell the caller why:
+     * the application is missing, belongs to someone else, is in a status the target cannot be
+     * reached from, or was changed concurrently between the update and this read.
      */
-    @Transactional(readOnly = true)
-    public ApplicationStatsResponse getApplicationStats(String userId) {
-        long totalApplications = applicationRepository.countByUserId(userId);
-        
-        // Count by status
-        List<Object[]> statusCounts = applicationRepository.countByStatusGrouped(userId);
-        Map<String, Integer> byStatus = new HashMap<>();
-        for (Object[] row : statusCounts) {
-            ApplicationStatus status = (ApplicationStatus) row[0];
-            Long count = (Long) row[1];
-            byStatus.put(status.name(), count.intValue());
+    private RuntimeException explainRejectedTransition(String applicationId, String actorId, boolean asEmployer,
+                                                       ApplicationStatus target) {
+        ApplicationCommandRepository.ApplicationState state = applicationCommandRepository.findState(applicationId)
+            .orElse(null);
+        if (state == null) {
+            return new ApplicationNotFoundException("Application not found with ID: " + applicationId);
         }
         
-        // Calculate this week and this month applications
-        LocalDate oneWeekAgo = LocalDate.now().minusWeeks(1);
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        
-        long thisWeek = applicationRepository.countByUserIdAndAppliedDateAfter(userId, oneWeekAgo);
-        long thisMonth = applicationRepository.countByUserIdAndAppliedDateAfter(userId, oneMonthAgo);
+        String owner = asEmployer ? state.employerId() : state.userId();
+        if (!actorId.equals(owner)) {
+            return asEmployer
+                ? new UnauthorizedAccessException("Employer does not have permission to update applications for this job")
+                : new UnauthorizedAccessException("User does not have permission to withdraw this application");
+        }
         
-        // Calculate interview rate
-        Double interviewRate = null;
-        if (totalApplications > 0) {
-            long interviewCount = byStatus.getOrDefault("INTERVIEW", 0);
-            interviewRate = (double) interviewCount / totalApplications * 100;
+        if (!state.status().canTransitionTo(target)) {
+            return target == ApplicationStatus.WITHDRAWN
+                ? new CannotWithdrawException("Cannot withdraw application in status: " + state.status())
+                : new InvalidStatusTransitionException("Invalid status transition from " + state.status() + " to " + target);
         }
         
-        return ApplicationStatsResponse.builder()
-            .total((int) totalApplications)
-            .byStatus(byStatus)
-            .thisWeek((int) thisWeek)
-            .thisMonth((int) thisMonth)
-            .interviewRate(interviewRate)
-            .build();
+        return new ApplicationStatusConflictException("Application " + applicationId + " was modified concurrently, please retry");
     }
 
     /**
-     * Validate status transition
+     * Get application statistics for a user.
+     * Served from the materialized per-user counters (single primary-key read).
      */
-    private void validateStatusTransition(ApplicationStatus current, ApplicationStatus next) {
-        // Define valid transitions
-        // APPLIED -> IN_REVIEW -> SHORTLISTED -> INTERVIEW -> OFFERED
-        // Any status -> REJECTED
-        // Cannot transition to WITHDRAWN (only job seeker can withdraw)
-        
-        if (next == ApplicationStatus.WITHDRAWN) {
-            throw new IllegalArgumentException("Cannot set status to WITHDRAWN. Use the withdraw endpoint.");
-        }
-        
-        // Define allowed transitions
-        boolean isValid = switch (current) {
-            case APPLIED, RESUME_VIEWED -> next == ApplicationStatus.IN_REVIEW || 
-                                     next == ApplicationStatus.REJECTED;
-            case IN_REVIEW -> next == ApplicationStatus.SHORTLISTED || 
-                              next == ApplicationStatus.REJECTED;
-            case SHORTLISTED -> next == ApplicationStatus.INTERVIEW || 
-                                next == ApplicationStatus.REJECTED;
-            case INTERVIEW -> next == ApplicationStatus.OFFERED || 
-                              next == ApplicationStatus.REJECTED;
-            case OFFERED, REJECTED, WITHDRAWN -> false; // Terminal states
-        };
-        
-        if (!isValid) {
-            throw new IllegalArgumentException("Invalid status transition from " + current + " to " + next);
-        }
+    @Transactional(readOnly = true)
+    public ApplicationStatsResponse getApplicationStats(String userId) {
+        return applicationStatsService.getStats(userId);
     }
 
     private ApplicationDetailsResponse mapToDetailsResponse(Application application) {
@@ -620,24 +807,27 @@ public class ApplicationService {
         } catch (Exception e) {
             logger.warn("Could not fetch job for application {}: {}", application.getId(), e.getMessage());
         }
-        
+        return mapToDetailsResponse(application, job != null ? JobSummary.of(job) : null);
+    }
+
+    private ApplicationDetailsResponse mapToDetailsResponse(Application application, JobSummary job) {
         return ApplicationDetailsResponse.builder()
             .id(application.getId())
             .userId(application.getUserId())
             .job(job != null ? ApplicationResponse.JobDto.builder()
-                .id(job.getId())
-                .title(job.getTitle())
-                .company(job.getCompany())
-                .companyId(job.getCompanyId())
-                .employerId(job.getEmployerId()) // Added this line
-                .logo(job.getLogo())
-                .location(job.getLocation())
-                .type(job.getType())
-                .salary(job.getSalary())
-                .posted(job.getPostedDate() != null ? job.getPostedDate().toString() : null)
-                .description(job.getDescription())
-                .status(job.getStatus())
-                .seniority(job.getSeniority())
+                .id(job.id())
+                .title(job.title())
+                .company(job.company())
+                .companyId(job.companyId())
+                .employerId(job.employerId())
+                .logo(job.logo())
+                .location(job.location())
+                .type(job.type())
+                .salary(job.salary())
+                .posted(job.postedDate() != null ? job.postedDate().toString() : null)
+                .description(job.description())
+                .status(job.status())
+                .seniority(job.seniority())
                 .build() : null)
             .status(application.getStatus() != null ? application.getStatus().name() : null)
             .appliedDate(application.getAppliedDate() != null ? application.getAppliedDate().toString() : null)
@@ -653,50 +843,76 @@ public class ApplicationService {
             .build();
     }
 
-    private ApplicationResponse mapToResponse(Application application) {
-        // Get job details
-        Job job = null;
-        String jobTitle = null;
-        String companyName = null;
-        try {
-            job = jobRepository.findById(application.getJobId()).orElse(null);
-            if (job != null) {
-                jobTitle = job.getTitle();
-                companyName = job.getCompany();
-            }
-        } catch (Exception e) {
-            logger.warn("Could not fetch job for application {}: {}", application.getId(), e.getMessage());
-        }
-        
+    /**
+     * Map the row returned by a conditional status update; the job summary was joined by the
+     * same statement, so no extra lookup is needed.
+     */
+    private ApplicationDetailsResponse mapToDetailsResponse(ApplicationTransition row) {
+        return ApplicationDetailsResponse.builder()
+            .id(row.id())
+            .userId(row.userId())
+            .job(row.jobTitle() != null ? ApplicationResponse.JobDto.builder()
+                .id(row.jobId())
+                .title(row.jobTitle())
+                .company(row.jobCompany())
+                .companyId(row.jobCompanyId())
+                .employerId(row.jobEmployerId())
+                .logo(row.jobLogo())
+                .location(row.jobLocation())
+                .type(row.jobType())
+                .salary(row.jobSalary())
+                .posted(row.jobPostedDate() != null ? row.jobPostedDate().toString() : null)
+                .description(row.jobDescription())
+                .status(row.jobStatus())
+                .seniority(row.jobSeniority())
+                .build() : null)
+            .status(row.status().name())
+            .appliedDate(row.appliedDate() != null ? row.appliedDate().toString() : null)
+            .resumeId(row.resumeId())
+            .resumeFileName(row.resumeId() != null ? 
+                "resume_" + row.resumeId() + ".pdf" : null)
+            .coverLetter(row.coverLetter())
+            .rejectionReason(row.rejectionReason())
+            .createdAt(row.createdAt() != null ? row.createdAt().toString() : null)
+            .updatedAt(row.updatedAt() != null ? row.updatedAt().toString() : null)
+            .applicantName(row.applicantName() != null ? row.applicantName() : "Unknown User")
+            .applicantEmail(row.applicantEmail())
+            .build();
+    }
+
+    /**
+     * Map a list projection to the response. The job summary comes from the same
+     * query, so no per-row job lookup is needed; the cover letter and job description
+     * are left out of list pages and are available from the details endpoint.
+     */
+    private ApplicationResponse mapToResponse(ApplicationSummary summary) {
         return ApplicationResponse.builder()
-            .id(application.getId())
-            .userId(application.getUserId())
-            .jobId(application.getJobId())
-            .job(job != null ? ApplicationResponse.JobDto.builder()
-                .id(job.getId())
-                .title(job.getTitle())
-                .company(job.getCompany())
-                .companyId(job.getCompanyId())
-                .employerId(job.getEmployerId()) // Added this line
-                .logo(job.getLogo())
-                .location(job.getLocation())
-                .type(job.getType())
-                .salary(job.getSalary())
-                .posted(job.getPostedDate() != null ? job.getPostedDate().toString() : null)
-                .description(job.getDescription())
-                .status(job.getStatus())
-                .seniority(job.getSeniority())
+            .id(summary.id())
+            .userId(summary.userId())
+            .jobId(summary.jobId())
+            .job(summary.jobTitle() != null ? ApplicationResponse.JobDto.builder()
+                .id(summary.jobId())
+                .title(summary.jobTitle())
+                .company(summary.jobCompany())
+                .companyId(summary.jobCompanyId())
+                .employerId(summary.jobEmployerId())
+                .logo(summary.jobLogo())
+                .location(summary.jobLocation())
+                .type(summary.jobType())
+                .salary(summary.jobSalary())
+                .posted(summary.jobPostedDate() != null ? summary.jobPostedDate().toString() : null)
+                .status(summary.jobStatus())
+                .seniority(summary.jobSeniority())
                 .build() : null)
-            .status(application.getStatus() != null ? application.getStatus().name() : null)
-            .appliedDate(application.getAppliedDate() != null ? application.getAppliedDate().toString() : null)
-            .resumeId(application.getResumeId())
-            .resumeFileName(application.getResumeId() != null ? 
-                "resume_" + application.getResumeId() + ".pdf" : null)
-            .coverLetter(application.getCoverLetter())
-            .createdAt(application.getCreatedAt() != null ? application.getCreatedAt().toString() : null)
-            .updatedAt(application.getUpdatedAt() != null ? application.getUpdatedAt().toString() : null)
-            .applicantName(application.getApplicantName() != null ? application.getApplicantName() : "Unknown User")
-            .applicantEmail(application.getApplicantEmail())
+            .status(summary.status() != null ? summary.status().name() : null)
+            .appliedDate(summary.appliedDate() != null ? summary.appliedDate().toString() : null)
+            .resumeId(summary.resumeId())
+            .resumeFileName(summary.resumeId() != null ? 
+                "resume_" + summary.resumeId() + ".pdf" : null)
+            .createdAt(summary.createdAt() != null ? summary.createdAt().toString() : null)
+            .updatedAt(summary.updatedAt() != null ? summary.updatedAt().toString() : null)
+            .applicantName(summary.applicantName() != null ? summary.applicantName() : "Unknown User")
+            .applicantEmail(summary.applicantEmail())
             .build();
     }
 }
@@ -0,0 +1,203 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.domain.entity.ApplicationStatusCounts;
+import com.example.Application_Service.domain.entity.UserApplicationStats;
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.dto.response.ApplicationStatsResponse;
+import com.example.Application_Service.repository.ApplicationRepository;
+import com.example.Application_Service.repository.UserApplicationStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maintains the per-user application counters in user_application_stats.
+ *
+ * Write methods must run inside the transaction that changes the application, so the
+ * counters commit or roll back together with the status change. The stats endpoint
+ * then reads a single row by primary key instead of aggregating the applications table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStatsService {
+
+    private final UserApplicationStatsRepository statsRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.stats.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    /**
+     * Count a newly submitted application (status APPLIED)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSubmission(String userId, LocalDate appliedDate) {
+        UserApplicationStats stats = lockOrRebuild(userId);
+        if (stats == null) {
+            return;
+        }
+        stats.getCounts().recordSubmission();
+        stats.recordSubmissionOn(appliedDate);
+    }
+
+    /**
+     * Move one application of the user from one status to another
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(String userId, ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        UserApplicationStats stats = lockOrRebuild(userId);
+        if (stats == null) {
+            return;
+        }
+        stats.getCounts().recordTransition(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationStatsResponse getStats(String userId) {
+        // Users without a row yet (e.g. before the first write since this table existed) are computed on the fly
+        UserApplicationStats stats = statsRepository.findById(userId)
+            .orElseGet(() -> computeFromApplications(userId));
+
+        ApplicationStatusCounts counts = stats.getCounts();
+        LocalDate today = LocalDate.now();
+        int total = counts.getTotal();
+
+        // Calculate interview rate
+        Double interviewRate = null;
+        if (total > 0) {
+            interviewRate = (double) counts.getInterview() / total * 100;
+        }
+
+        return ApplicationStatsResponse.builder()
+            .total(total)
+            .byStatus(counts.toMap())
+            .thisWeek(stats.countAppliedAfter(today.minusWeeks(1), today))
+            .thisMonth(stats.countAppliedAfter(today.minusMonths(1), today))
+            .interviewRate(interviewRate)
+            .build();
+    }
+
+    /**
+     * Recompute every user's counters from the applications table and repair any drift.
+     * Each user is handled in its own short transaction.
+     */
+    @Scheduled(cron = "${application.stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcileAll() {
+        log.info("Starting application stats reconciliation");
+        int checked = 0;
+        int repaired = 0;
+        String after = "";
+        List<String> userIds;
+        do {
+            userIds = applicationRepository.findUserIdsAfter(after, PageRequest.of(0, reconcileBatchSize));
+            for (String userId : userIds) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(userId)))) {
+                        repaired++;
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to reconcile application stats for user {}: {}", userId, e.getMessage());
+                }
+                checked++;
+            }
+            if (!userIds.isEmpty()) {
+                after = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == reconcileBatchSize);
+        log.info("Application stats reconciliation finished: {} users checked, {} repaired", checked, repaired);
+    }
+
+    /**
+     * Repair one user's counters. Returns true if the stored row was missing or had drifted.
+     */
+    @Transactional
+    public boolean reconcile(String userId) {
+        statsRepository.insertIfAbsent(userId);
+        UserApplicationStats stored = statsRepository.findByUserIdForUpdate(userId).orElseThrow();
+        UserApplicationStats actual = computeFromApplications(userId);
+
+        LocalDate today = LocalDate.now();
+        boolean drifted = !Objects.equals(stored.getCounts(), actual.getCounts())
+            || !sameWindow(stored, actual, today);
+        if (drifted) {
+            log.warn("Repairing application stats drift for user {}: stored={}, actual={}",
+                userId, stored.getCounts(), actual.getCounts());
+            stored.setCounts(actual.getCounts());
+            stored.setDailyCounts(actual.getDailyCounts());
+            stored.setLastBucketDay(actual.getLastBucketDay());
+        }
+        return drifted;
+    }
+
+    /**
+     * Lock the user's row for update. If it does not exist yet it is created from the
+     * applications table; that snapshot already includes the caller's own uncommitted
+     * change, so null is returned to tell the caller not to apply its delta again.
+     */
+    private UserApplicationStats lockOrRebuild(String userId) {
+        UserApplicationStats stats = statsRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (stats != null) {
+            return stats;
+        }
+        UserApplicationStats rebuilt = computeFromApplications(userId);
+        boolean created = statsRepository.insertIfAbsent(userId) == 1;
+        stats = statsRepository.findByUserIdForUpdate(userId).orElseThrow();
+        if (!created) {
+            // Another transaction created the row first; its snapshot could not see our change
+            return stats;
+        }
+        stats.setCounts(rebuilt.getCounts());
+        stats.setDailyCounts(rebuilt.getDailyCounts());
+        stats.setLastBucketDay(rebuilt.getLastBucketDay());
+        return null;
+    }
+
+    private UserApplicationStats computeFromApplications(String userId) {
+        ApplicationStatusCounts counts = ApplicationStatusCounts.empty();
+        for (Object[] row : applicationRepository.countByStatusGrouped(userId)) {
+            int count = ((Long) row[1]).intValue();
+            counts.adjust((ApplicationStatus) row[0], count);
+            counts.setTotal(counts.getTotal() + count);
+        }
+
+        LocalDate today = LocalDate.now();
+        UserApplicationStats stats = UserApplicationStats.builder()
+            .userId(userId)
+            .counts(counts)
+            .build();
+        // Anchor the ring at today so the windows are relative to the current date
+        stats.addToDay(today, 0);
+        LocalDate since = today.minusDays(UserApplicationStats.DAILY_BUCKETS);
+        for (Object[] row : applicationRepository.countByAppliedDateGrouped(userId, since)) {
+            stats.addToDay((LocalDate) row[0], ((Long) row[1]).intValue());
+        }
+        return stats;
+    }
+
+    private boolean sameWindow(UserApplicationStats stored, UserApplicationStats actual, LocalDate today) {
+        int[] storedDays = new int[UserApplicationStats.DAILY_BUCKETS];
+        int[] actualDays = new int[UserApplicationStats.DAILY_BUCKETS];
+        for (int i = 0; i < UserApplicationStats.DAILY_BUCKETS; i++) {
+            LocalDate day = today.minusDays(i);
+            storedDays[i] = stored.countAppliedAfter(day.minusDays(1), day);
+            actualDays[i] = actual.countAppliedAfter(day.minusDays(1), day);
+        }
+        return Arrays.equals(storedDays, actualDays);
+    }
+}
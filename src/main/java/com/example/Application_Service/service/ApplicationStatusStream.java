@@ -0,0 +1,313 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+import com.example.Application_Service.dto.response.ApplicationStatusEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Pushes application status changes to connected job seekers over Server-Sent Events.
+ *
+ * Every node consumes all application events (ApplicationStatusEventConsumer) and hands them to
+ * {@link #publish}, so a seeker receives their events whichever node holds the connection.
+ * A user who is (or was recently) connected has a channel with the open emitters and a small buffer
+ * of recent events; a client that reconnects with Last-Event-ID gets the buffered events after that id.
+ * If the buffer no longer reaches back to it the client is told to resync with GET /api/v1/applications.
+ *
+ * Nodes may receive a user's events from different partitions in different orders, so an event id is
+ * not a place in the buffer but the position the client reached with it: the last offset of every
+ * partition the user's events came from ("3-120" or "3-120.7-41"). Replay sends every buffered event
+ * past that position, whichever node issued the id.
+ *
+ * Idle connections cost one emitter and no thread (async request); a single scheduled task sends
+ * heartbeats and drops channels that have neither connections nor recent events.
+ */
+@Service
+@Slf4j
+public class ApplicationStatusStream implements MetricsSource {
+
+    static final String STATUS_EVENT = "application-status";
+    static final String RESYNC_EVENT = "resync";
+
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder resyncs = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${sse.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${sse.replay-buffer-size:32}")
+    private int replayBufferSize;
+
+    @Value("${sse.replay-retention-ms:600000}")
+    private long replayRetentionMs;
+
+    /**
+     * Open a stream for the user, replaying buffered events after {@code lastEventId} when given
+     */
+    public SseEmitter subscribe(String userId, String lastEventId) {
+        SseEmitter emitter = newEmitter();
+        while (true) {
+            Channel channel = channels.computeIfAbsent(userId, id -> new Channel());
+            synchronized (channel) {
+                // The sweeper may have retired this channel between lookup and lock
+                if (channel.retired) {
+                    continue;
+                }
+                if (lastEventId != null && !lastEventId.isBlank()) {
+                    replay(channel, emitter, lastEventId);
+                }
+                if (channel.emitters.size() >= maxConnectionsPerUser) {
+                    // Oldest connection is most likely a tab the user already left
+                    channel.emitters.remove(0).complete();
+                    connections.decrementAndGet();
+                }
+                channel.emitters.add(emitter);
+                channel.lastActiveAt = System.currentTimeMillis();
+                connections.incrementAndGet();
+            }
+            Runnable remove = () -> remove(channel, emitter);
+            emitter.onCompletion(remove);
+            emitter.onTimeout(remove);
+            emitter.onError(e -> remove.run());
+            return emitter;
+        }
+    }
+
+    /**
+     * Buffer an event for its user and send it to their open connections (no-op for users without a channel)
+     *
+     * @param partition partition of the record the event came in
+     * @param offset    offset of that record, the same on every node
+     */
+    public void publish(int partition, long offset, ApplicationEventData eventData) {
+        String userId = eventData.getUserId();
+        if (userId == null) {
+            return;
+        }
+        ApplicationStatusEvent event = ApplicationStatusEvent.builder()
+            .eventType(eventData.getEventType())
+            .applicationId(eventData.getApplicationId())
+            .jobId(eventData.getJobId())
+            .jobTitle(eventData.getJobTitle())
+            .companyName(eventData.getCompanyName())
+            .status(eventData.getStatus())
+            .timestamp(eventData.getTimestamp())
+            .build();
+
+        // Only users connected now or within the retention window have a channel; nobody can replay the rest
+        Channel channel = channels.get(userId);
+        if (channel == null) {
+            return;
+        }
+        synchronized (channel) {
+            Long reached = channel.position.get(partition);
+            if (channel.retired || (reached != null && offset <= reached)) {
+                // Redelivered after a rebalance: already buffered and sent
+                return;
+            }
+            channel.firstOffsets.putIfAbsent(partition, offset);
+            channel.position.put(partition, offset);
+            String eventId = formatPosition(channel.position);
+            channel.buffer.addLast(new BufferedEvent(partition, offset, event));
+            while (channel.buffer.size() > replayBufferSize) {
+                BufferedEvent evicted = channel.buffer.removeFirst();
+                channel.evictedOffsets.merge(evicted.partition(), evicted.offset(), Math::max);
+            }
+            channel.lastActiveAt = System.currentTimeMillis();
+
+            delivered.add(sendAll(channel, () -> SseEmitter.event().id(eventId).name(STATUS_EVENT).data(event)));
+        }
+    }
+
+    /**
+     * Keep idle connections (and the proxies in front of them) alive, and retire channels
+     * that have had no connection for the replay retention
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long expiredBefore = System.currentTimeMillis() - replayRetentionMs;
+        for (Map.Entry<String, Channel> entry : channels.entrySet()) {
+            Channel channel = entry.getValue();
+            synchronized (channel) {
+                sendAll(channel, () -> SseEmitter.event().comment("heartbeat"));
+                if (channel.emitters.isEmpty() && channel.lastActiveAt < expiredBefore) {
+                    channel.retired = true;
+                    channels.remove(entry.getKey(), channel);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "statusStream";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("connections", connections.get());
+        metrics.put("channels", channels.size());
+        metrics.put("delivered", delivered.sum());
+        metrics.put("replayed", replayed.sum());
+        metrics.put("resyncs", resyncs.sum());
+        metrics.put("droppedConnections", dropped.sum());
+        return metrics;
+    }
+
+    // Overridden by tests to see what is sent
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void replay(Channel channel, SseEmitter emitter, String lastEventId) {
+        TreeMap<Integer, Long> seen = parsePosition(lastEventId);
+        if (seen == null || !reachesBack(channel, seen)) {
+            // Buffer does not reach back to the client's last event: it has to reload its applications
+            resyncs.increment();
+            send(emitter, SseEmitter.event().name(RESYNC_EVENT).data(Map.of("reason", "last event id not available")));
+            return;
+        }
+        for (BufferedEvent buffered : channel.buffer) {
+            if (buffered.offset() <= seen.getOrDefault(buffered.partition(), -1L)) {
+                continue;
+            }
+            // The client's position moved on by this event; this channel's ids may lag it elsewhere
+            seen.put(buffered.partition(), buffered.offset());
+            String eventId = formatPosition(seen);
+            if (!send(emitter, SseEmitter.event().id(eventId).name(STATUS_EVENT).data(buffered.event()))) {
+                return;
+            }
+            replayed.increment();
+        }
+    }
+
+    // Every event past the client's position is still buffered: the channel was already receiving each
+    // partition at that offset, and nothing past it has been evicted
+    private static boolean reachesBack(Channel channel, Map<Integer, Long> seen) {
+        for (Map.Entry<Integer, Long> partition : seen.entrySet()) {
+            Long first = channel.firstOffsets.get(partition.getKey());
+            if (first == null || first > partition.getValue()) {
+                return false;
+            }
+        }
+        for (Map.Entry<Integer, Long> evicted : channel.evictedOffsets.entrySet()) {
+            if (evicted.getValue() > seen.getOrDefault(evicted.getKey(), -1L)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String formatPosition(Map<Integer, Long> position) {
+        StringJoiner id = new StringJoiner(".");
+        position.forEach((partition, offset) -> id.add(partition + "-" + offset));
+        return id.toString();
+    }
+
+    // Partition to offset, or null when the id is not one of ours
+    private static TreeMap<Integer, Long> parsePosition(String id) {
+        TreeMap<Integer, Long> position = new TreeMap<>();
+        try {
+            for (String part : id.split("\\.")) {
+                int dash = part.indexOf('-');
+                position.put(Integer.parseInt(part.substring(0, dash)), Long.parseLong(part.substring(dash + 1)));
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return position;
+    }
+
+    /**
+     * Send to every connection of the channel (caller holds its monitor); returns the number reached.
+     * Builders are not reusable, so each connection gets a fresh one.
+     */
+    private int sendAll(Channel channel, Supplier<SseEmitter.SseEventBuilder> event) {
+        int sent = 0;
+        List<SseEmitter> failed = null;
+        for (SseEmitter emitter : List.copyOf(channel.emitters)) {
+            if (send(emitter, event.get())) {
+                sent++;
+            } else {
+                if (failed == null) {
+                    failed = new ArrayList<>();
+                }
+                failed.add(emitter);
+            }
+        }
+        if (failed != null) {
+            for (SseEmitter emitter : failed) {
+                if (channel.emitters.remove(emitter)) {
+                    connections.decrementAndGet();
+                }
+                dropped.increment();
+            }
+        }
+        return sent;
+    }
+
+    private void remove(Channel channel, SseEmitter emitter) {
+        synchronized (channel) {
+            if (channel.emitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            // Retention for Last-Event-ID replay counts from the disconnect
+            channel.lastActiveAt = System.currentTimeMillis();
+        }
+    }
+
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; completing releases the async request
+            log.debug("Dropping SSE connection: {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Connections and recent events of one user; guarded by its own monitor
+     */
+    private static final class Channel {
+        private final List<SseEmitter> emitters = new ArrayList<>(1);
+        private final ArrayDeque<BufferedEvent> buffer = new ArrayDeque<>();
+        // Last offset per partition, the id of the newest event
+        private final TreeMap<Integer, Long> position = new TreeMap<>();
+        // Offset at which the channel started receiving each partition
+        private final Map<Integer, Long> firstOffsets = new HashMap<>();
+        // Highest offset per partition dropped from the buffer
+        private final Map<Integer, Long> evictedOffsets = new HashMap<>();
+        private long lastActiveAt = System.currentTimeMillis();
+        private boolean retired;
+    }
+
+    private record BufferedEvent(int partition, long offset, ApplicationStatusEvent event) {}
+}
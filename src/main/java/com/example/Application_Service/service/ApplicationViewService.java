@@ -0,0 +1,109 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.repository.ApplicationViewProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backfills and reconciles application_view.
+ *
+ * Writes keep the view current (ApplicationCommandRepository, JobService), so this only
+ * matters for rows written before the view existed and for drift. On startup, if any application
+ * has no view row, the view is backfilled in the background and list reads stay on the
+ * applications/job join until it finishes ({@link #isReady()}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationViewService implements MetricsSource {
+
+    private final ApplicationViewProjector projector;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${applications.view.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    private volatile boolean ready;
+    private volatile Instant lastReconciledAt;
+    private volatile long lastRepaired;
+
+    /**
+     * True once every application is known to have a view row; list reads use the view from then on
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        taskScheduler.schedule(() -> {
+            try {
+                if (projector.hasMissingRows()) {
+                    log.info("application_view is incomplete; backfilling before list reads switch to it");
+                    reconcileAll();
+                }
+                ready = true;
+                log.info("application_view is ready");
+            } catch (Exception e) {
+                // Stay on the join; the nightly reconciliation retries
+                log.error("application_view backfill failed: {}", e.getMessage(), e);
+            }
+        }, Instant.now());
+    }
+
+    /**
+     * Walk all applications in id order and repair missing or stale view rows
+     */
+    @Scheduled(cron = "${applications.view.reconcile-cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        log.info("Starting application_view reconciliation");
+        long checked = 0;
+        long repaired = 0;
+        String after = "";
+        List<String> ids;
+        do {
+            ids = projector.findApplicationIdsAfter(after, batchSize);
+            if (!ids.isEmpty()) {
+                List<String> batch = ids;
+                Integer changed = transactionTemplate.execute(status -> projector.refresh(batch));
+                repaired += changed != null ? changed : 0;
+                checked += batch.size();
+                after = batch.get(batch.size() - 1);
+            }
+        } while (ids.size() == batchSize);
+
+        Integer orphans = transactionTemplate.execute(status -> projector.deleteOrphans());
+        lastRepaired = repaired + (orphans != null ? orphans : 0);
+        lastReconciledAt = Instant.now();
+        ready = true;
+        log.info("application_view reconciliation finished: {} applications checked, {} rows repaired, {} orphans removed",
+            checked, repaired, orphans);
+    }
+
+    @Override
+    public String metricsName() {
+        return "applicationView";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("ready", ready);
+        metrics.put("lastReconciledAt", lastReconciledAt != null ? lastReconciledAt.toString() : null);
+        metrics.put("lastRepaired", lastRepaired);
+        return metrics;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.Application_Service.service;
+
+/**
+ * Count-min sketch of recent access frequencies, the admission filter of TinyLFU.
+ *
+ * Four rows of small counters (capped at 15) indexed by independent hashes; the estimate is the
+ * minimum of the four. After {@code 10 x width} increments every counter is halved, so old
+ * popularity fades. Not thread-safe; JobResponseCache calls it under its lock.
+ */
+final class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x85EBCA77C2B2AE63L};
+
+    private final byte[][] rows = new byte[SEEDS.length][];
+    private final int mask;
+    private final int resetAfter;
+    private int additions;
+
+    FrequencySketch(int expectedEntries) {
+        int width = Integer.highestOneBit(Math.max(16, expectedEntries * 4 - 1)) << 1;
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new byte[width];
+        }
+        this.mask = width - 1;
+        this.resetAfter = width * 10;
+    }
+
+    void increment(long key) {
+        boolean added = false;
+        for (int i = 0; i < rows.length; i++) {
+            int index = index(key, i);
+            if (rows[i][index] < MAX_COUNT) {
+                rows[i][index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= resetAfter) {
+            halve();
+        }
+    }
+
+    int frequency(long key) {
+        int min = MAX_COUNT;
+        for (int i = 0; i < rows.length; i++) {
+            min = Math.min(min, rows[i][index(key, i)]);
+        }
+        return min;
+    }
+
+    private void halve() {
+        for (byte[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = (byte) (row[i] >>> 1);
+            }
+        }
+        additions /= 2;
+    }
+
+    private int index(long key, int row) {
+        long hash = (key + 1) * SEEDS[row];
+        hash ^= hash >>> 29;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 32;
+        return (int) hash & mask;
+    }
+}
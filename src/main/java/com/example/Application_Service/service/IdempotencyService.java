@@ -0,0 +1,79 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.dto.response.ApplicationDetailsResponse;
+import com.example.Application_Service.exception.IdempotencyKeyReuseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores and replays responses of application submissions made with an Idempotency-Key header.
+ * The stored response is written in the submit transaction, so it exists exactly when the
+ * application does; keys expire after {@code idempotency.ttl-hours}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private static final String FIND_SQL =
+            "SELECT job_id, response_body FROM idempotency_keys WHERE user_id = ? AND idem_key = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO idempotency_keys (user_id, idem_key, job_id, response_body, created_at) " +
+            "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT (user_id, idem_key) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Value("${idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * Stored response of an earlier submission with this key.
+     * Throws when the key was used to apply to a different job.
+     */
+    public Optional<ApplicationDetailsResponse> findSubmission(String userId, String key, Long jobId) {
+        List<Stored> rows = jdbcTemplate.query(FIND_SQL,
+            (rs, rowNum) -> new Stored(rs.getLong("job_id"), rs.getString("response_body")), userId, key);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        Stored stored = rows.get(0);
+        if (!stored.jobId().equals(jobId)) {
+            throw new IdempotencyKeyReuseException("Idempotency-Key was already used for a different request");
+        }
+        return Optional.of(jsonMapper.readValue(stored.body(), ApplicationDetailsResponse.class));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void storeSubmission(String userId, String key, Long jobId, ApplicationDetailsResponse response) {
+        jdbcTemplate.update(INSERT_SQL, userId, key, jobId, jsonMapper.writeValueAsString(response));
+    }
+
+    @Scheduled(cron = "${idempotency.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(Duration.ofHours(ttlHours)));
+        int deleted = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?", cutoff);
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private record Stored(Long jobId, String body) {}
+}
@@ -0,0 +1,150 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.domain.entity.Job;
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.dto.response.JobClosureProgressResponse;
+import com.example.Application_Service.repository.ApplicationCommandRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rejects the open applications of a closed job in the background.
+ *
+ * Work is done in chunks of {@code jobs.closure.chunk-size} applications, each in its own
+ * short transaction with its events queued in the outbox by the same transaction, so closing
+ * a job with tens of thousands of applicants never holds one long transaction.
+ * Chunks skip rows locked by concurrent employer actions; a final pass waits for them.
+ * Progress is kept in memory per job for the closure endpoint, and forgotten
+ * {@code jobs.closure.retention-ms} after the run finished.
+ */
+@Service
+@Slf4j
+public class JobClosureService {
+
+    private static final String DEFAULT_REASON = "This job has been closed";
+
+    private final ApplicationService applicationService;
+    private final ApplicationCommandRepository applicationCommandRepository;
+    private final TaskExecutor executor;
+
+    @Value("${jobs.closure.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${jobs.closure.retention-ms:86400000}")
+    private long retentionMs;
+
+    private final Map<Long, Progress> runs = new ConcurrentHashMap<>();
+
+    public JobClosureService(ApplicationService applicationService,
+                             ApplicationCommandRepository applicationCommandRepository,
+                             @Qualifier("jobClosureExecutor") TaskExecutor executor) {
+        this.applicationService = applicationService;
+        this.applicationCommandRepository = applicationCommandRepository;
+        this.executor = executor;
+    }
+
+    /**
+     * Start rejecting the job's open applications unless a run for the job is already in progress
+     */
+    public JobClosureProgressResponse startAutoReject(Job job, String reason) {
+        // Runs are only added here, so pruning here keeps the map to the runs of the retention window
+        runs.values().removeIf(this::isExpired);
+        Progress fresh = new Progress(job.getId());
+        Progress existing = runs.compute(job.getId(), (id, current) ->
+            current != null && current.state == State.RUNNING ? current : fresh);
+        if (existing != fresh) {
+            log.info("Auto-reject for job {} already running", job.getId());
+            return existing.toResponse();
+        }
+        
+        String rejectionReason = reason != null && !reason.isBlank() ? reason : DEFAULT_REASON;
+        executor.execute(() -> run(job, rejectionReason, fresh));
+        return fresh.toResponse();
+    }
+
+    public JobClosureProgressResponse getProgress(Long jobId) {
+        Progress progress = runs.get(jobId);
+        return progress != null && !isExpired(progress) ? progress.toResponse() : null;
+    }
+
+    private boolean isExpired(Progress progress) {
+        Instant finishedAt = progress.finishedAt;
+        return finishedAt != null && finishedAt.plusMillis(retentionMs).isBefore(Instant.now());
+    }
+
+    private void run(Job job, String reason, Progress progress) {
+        try {
+            progress.openAtStart = applicationCommandRepository.countInStatuses(
+                job.getId(), ApplicationStatus.REJECTED.predecessors());
+            log.info("Auto-rejecting {} open applications of closed job {}", progress.openAtStart, job.getId());
+            
+            drain(job, reason, progress, true);
+            drain(job, reason, progress, false);
+            
+            progress.finish(State.COMPLETED, null);
+            log.info("Auto-reject for job {} finished: {} applications rejected in {} batches", 
+                job.getId(), progress.rejected, progress.batches);
+        } catch (Exception e) {
+            progress.finish(State.FAILED, e.getMessage());
+            log.error("Auto-reject for job {} failed after {} applications: {}", 
+                job.getId(), progress.rejected, e.getMessage(), e);
+        }
+    }
+
+    private void drain(Job job, String reason, Progress progress, boolean skipLocked) {
+        int rejected;
+        do {
+            rejected = applicationService.rejectOpenApplicationsChunk(job, reason, chunkSize, skipLocked);
+            if (rejected > 0) {
+                progress.rejected += rejected;
+                progress.batches++;
+            }
+        } while (rejected > 0);
+    }
+
+    private enum State { RUNNING, COMPLETED, FAILED }
+
+    /**
+     * Written only by the worker thread; volatile so the progress endpoint sees current values
+     */
+    private static final class Progress {
+        private final Long jobId;
+        private final Instant startedAt = Instant.now();
+        private volatile State state = State.RUNNING;
+        private volatile long openAtStart;
+        private volatile long rejected;
+        private volatile int batches;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        private Progress(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        private void finish(State finalState, String failure) {
+            this.error = failure;
+            this.finishedAt = Instant.now();
+            this.state = finalState;
+        }
+
+        private JobClosureProgressResponse toResponse() {
+            return JobClosureProgressResponse.builder()
+                .jobId(jobId)
+                .state(state.name())
+                .openAtStart(openAtStart)
+                .rejected(rejected)
+                .batches(batches)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.domain.entity.Job;
+import com.example.Application_Service.domain.enums.JobStatus;
+import com.example.Application_Service.dto.request.BulkJobRecord;
+import com.example.Application_Service.dto.JobEventData;
+import com.example.Application_Service.dto.response.BulkJobResult;
+import com.example.Application_Service.kafka.JobEventOutbox;
+import com.example.Application_Service.repository.ApplicationViewProjector;
+import com.example.Application_Service.repository.JobBulkRepository;
+import com.example.Application_Service.search.JobChangedEvent;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk job ingestion for ATS synchronization.
+ *
+ * The request body is NDJSON, one job per line, upserted by the employer's external posting id.
+ * Lines are parsed and validated as they are read and stored in batches of jobs.bulk.batch-size,
+ * one transaction per batch (see JobBulkRepository). A batch that fails is retried record by
+ * record, so one bad row only fails itself. Results are written as NDJSON in line order after
+ * each batch, followed by a summary line; memory is bounded by one batch whatever the body size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobIngestionService {
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final JobBulkRepository jobBulkRepository;
+    private final ApplicationViewProjector applicationViewProjector;
+    private final JobStatusCache jobStatusCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobEventOutbox jobEventOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+
+    @Value("${jobs.bulk.batch-size:200}")
+    private int batchSize;
+
+    // Longer lines are reported as failed without being parsed
+    @Value("${jobs.bulk.max-record-bytes:262144}")
+    private int maxRecordBytes;
+
+    public record Summary(long records, long created, long updated, long failed) {}
+
+    /**
+     * Read records from {@code in} and write one result per record to {@code out}, then the summary
+     */
+    public Summary ingest(String employerId, InputStream in, OutputStream out) throws IOException {
+        LineReader reader = new LineReader(in, maxRecordBytes);
+        List<Item> batch = new ArrayList<>();
+        Set<String> batchExternalIds = new HashSet<>();
+        long[] counts = new long[3];
+        long records = 0;
+
+        long lineNumber = 0;
+        byte[] line;
+        while ((line = reader.next()) != null) {
+            lineNumber++;
+            if (reader.overflowed()) {
+                records++;
+                batch.add(Item.failed(lineNumber, null, "record exceeds " + maxRecordBytes + " bytes"));
+            } else if (!isBlank(line)) {
+                records++;
+                Item item = parse(lineNumber, line, employerId);
+                // A second version of the same posting goes to the next batch, so it wins
+                if (item.job != null && !batchExternalIds.add(item.result.getExternalId())) {
+                    flush(employerId, batch, counts, out);
+                    batchExternalIds.clear();
+                    batchExternalIds.add(item.result.getExternalId());
+                }
+                batch.add(item);
+            }
+            if (batch.size() >= batchSize) {
+                flush(employerId, batch, counts, out);
+                batchExternalIds.clear();
+            }
+        }
+        flush(employerId, batch, counts, out);
+
+        Summary summary = new Summary(records, counts[0], counts[1], counts[2]);
+        write(out, Map.of("summary", summary));
+        log.info("Bulk ingestion for employer {}: {} records, {} created, {} updated, {} failed",
+            employerId, records, summary.created(), summary.updated(), summary.failed());
+        return summary;
+    }
+
+    private Item parse(long lineNumber, byte[] line, String employerId) {
+        BulkJobRecord record;
+        try {
+            record = jsonMapper.readValue(line, BulkJobRecord.class);
+        } catch (JacksonException e) {
+            return Item.failed(lineNumber, null, "invalid JSON: " + e.getOriginalMessage());
+        }
+        if (record == null) {
+            return Item.failed(lineNumber, null, "record must be a JSON object");
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<BulkJobRecord> violation : validator.validate(record)) {
+            errors.add(violation.getMessage());
+        }
+        String status = JobStatus.Published.name();
+        if (record.getStatus() != null) {
+            status = null;
+            for (JobStatus candidate : JobStatus.values()) {
+                if (candidate.name().equalsIgnoreCase(record.getStatus())) {
+                    status = candidate.name();
+                }
+            }
+            if (status == null) {
+                errors.add("Unknown status: " + record.getStatus());
+            }
+        }
+        if (!errors.isEmpty()) {
+            return new Item(lineNumber, null, result(lineNumber, record.getExternalId(), BulkJobResult.FAILED, errors));
+        }
+
+        Job job = Job.builder()
+            .title(record.getTitle())
+            .company(record.getCompany())
+            .companyId(record.getCompanyId())
+            .location(record.getLocation())
+            .type(record.getType())
+            .salary(record.getSalary())
+            .description(record.getDescription())
+            .responsibilities(record.getResponsibilities())
+            .skills(record.getSkills())
+            .benefits(record.getBenefits())
+            .status(status)
+            .seniority(record.getSeniority())
+            .isRemote(record.getIsRemote())
+            .educationRequired(record.getEducationRequired())
+            .employerId(employerId)
+            .externalId(record.getExternalId())
+            .build();
+        JobService.applySalaryRange(job);
+        return new Item(lineNumber, job, result(lineNumber, record.getExternalId(), null, null));
+    }
+
+    /**
+     * Store the parsed jobs of the batch, write all its results in line order and clear it
+     */
+    private void flush(String employerId, List<Item> batch, long[] counts, OutputStream out) throws IOException {
+        List<Item> jobs = batch.stream().filter(item -> item.job != null).toList();
+        if (!jobs.isEmpty()) {
+            store(employerId, jobs);
+        }
+        for (Item item : batch) {
+            switch (item.result.getStatus()) {
+                case BulkJobResult.CREATED -> counts[0]++;
+                case BulkJobResult.UPDATED -> counts[1]++;
+                default -> counts[2]++;
+            }
+            write(out, item.result);
+        }
+        out.flush();
+        batch.clear();
+    }
+
+    private void store(String employerId, List<Item> items) {
+        try {
+            List<Long> updatedIds = transactionTemplate.execute(status -> upsert(employerId, items));
+            for (Item item : items) {
+                item.result.setId(item.job.getId());
+                item.result.setStatus(updatedIds.contains(item.job.getId()) ? BulkJobResult.UPDATED : BulkJobResult.CREATED);
+            }
+        } catch (RuntimeException e) {
+            if (items.size() > 1) {
+                log.warn("Bulk batch of {} jobs for employer {} failed, retrying one by one: {}",
+                    items.size(), employerId, e.getMessage());
+                for (Item item : items) {
+                    store(employerId, List.of(item));
+                }
+            } else {
+                Item item = items.get(0);
+                log.warn("Bulk job {} of employer {} failed: {}", item.result.getExternalId(), employerId, e.getMessage());
+                item.result.setStatus(BulkJobResult.FAILED);
+                item.result.setErrors(List.of("could not be stored"));
+            }
+        }
+    }
+
+    /**
+     * Upsert one batch in the current transaction; returns the ids of the jobs that already existed
+     */
+    private List<Long> upsert(String employerId, List<Item> items) {
+        jobBulkRepository.lockEmployer(employerId);
+        Map<String, Long> existing = jobBulkRepository.findIdsByExternalIds(employerId,
+            items.stream().map(item -> item.job.getExternalId()).toList());
+        Iterator<Long> newIds = jobBulkRepository.allocateIds(
+            (int) items.stream().filter(item -> !existing.containsKey(item.job.getExternalId())).count()).iterator();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> jobs = new ArrayList<>(items.size());
+        List<Long> updatedIds = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(items.size());
+        for (Item item : items) {
+            Job job = item.job;
+            Long id = existing.get(job.getExternalId());
+            if (id != null) {
+                updatedIds.add(id);
+            } else {
+                id = newIds.next();
+            }
+            job.setId(id);
+            job.setPostedDate(LocalDate.now());
+            job.setCreatedAt(now);
+            job.setUpdatedAt(now);
+            jobs.add(job);
+            ids.add(id);
+        }
+        jobBulkRepository.upsert(jobs);
+
+        // Application lists read the job summary from application_view
+        for (Long id : updatedIds) {
+            applicationViewProjector.refreshJob(id);
+        }
+        eventPublisher.publishEvent(new JobChangedEvent(ids));
+        List<JobEventData> events = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            events.add(jobEventOutbox.event(updatedIds.contains(job.getId())
+                ? JobEventOutbox.JOB_UPDATED : JobEventOutbox.JOB_CREATED, job, null));
+        }
+        jobEventOutbox.enqueueAll(events);
+        if (!updatedIds.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updatedIds.forEach(jobStatusCache::evict);
+                }
+            });
+        }
+        return updatedIds;
+    }
+
+    private void write(OutputStream out, Object value) throws IOException {
+        out.write(jsonMapper.writeValueAsBytes(value));
+        out.write(NEWLINE);
+    }
+
+    private static BulkJobResult result(long line, String externalId, String status, List<String> errors) {
+        return BulkJobResult.builder().line(line).externalId(externalId).status(status).errors(errors).build();
+    }
+
+    private static boolean isBlank(byte[] line) {
+        for (byte b : line) {
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A parsed record ({@code job} set) or an already failed one, with the result written for it
+     */
+    private record Item(long line, Job job, BulkJobResult result) {
+
+        static Item failed(long line, String externalId, String error) {
+            return new Item(line, null, JobIngestionService.result(line, externalId, BulkJobResult.FAILED, List.of(error)));
+        }
+    }
+
+    /**
+     * Splits a stream on '\n' without holding more than {@code maxBytes} of one line; the rest of
+     * a longer line is skipped and reported through {@link #overflowed()}
+     */
+    private static final class LineReader {
+
+        private final InputStream in;
+        private final int maxBytes;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private boolean overflowed;
+
+        LineReader(InputStream in, int maxBytes) {
+            this.in = new BufferedInputStream(in);
+            this.maxBytes = maxBytes;
+        }
+
+        byte[] next() throws IOException {
+            line.reset();
+            overflowed = false;
+            int b;
+            boolean read = false;
+            while ((b = in.read()) != -1) {
+                read = true;
+                if (b == '\n') {
+                    break;
+                }
+                if (line.size() < maxBytes) {
+                    line.write(b);
+                } else {
+                    overflowed = true;
+                }
+            }
+            return read ? line.toByteArray() : null;
+        }
+
+        boolean overflowed() {
+            return overflowed;
+        }
+    }
+}
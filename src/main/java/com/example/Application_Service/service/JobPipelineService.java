@@ -0,0 +1,194 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.domain.entity.ApplicationStatusCounts;
+import com.example.Application_Service.domain.entity.JobPipelineStats;
+import com.example.Application_Service.domain.enums.ApplicationStatus;
+import com.example.Application_Service.dto.response.JobPipelineResponse;
+import com.example.Application_Service.repository.ApplicationRepository;
+import com.example.Application_Service.repository.JobPipelineStatsRepository;
+import com.example.Application_Service.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-job applicant pipeline in job_pipeline_stats and keeps
+ * Job.applicationsCount equal to its total.
+ *
+ * Write methods must run inside the transaction that changes the application.
+ * Callers that also update user counters lock the user row first, then the job row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobPipelineService {
+
+    private final JobPipelineStatsRepository pipelineRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.pipeline.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    /**
+     * Count a newly submitted application (status APPLIED)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSubmission(Long jobId) {
+        JobPipelineStats pipeline = lockOrRebuild(jobId);
+        if (pipeline != null) {
+            pipeline.getCounts().recordSubmission();
+            jobRepository.updateApplicationsCount(jobId, pipeline.getCounts().getTotal());
+        }
+    }
+
+    /**
+     * Move one application of the job from one status to another
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long jobId, ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        recordTransitions(jobId, Map.of(from, -1, to, 1));
+    }
+
+    /**
+     * Apply several status moves for one job under a single row lock.
+     * The map holds the net change per status; the total is unaffected by transitions.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(Long jobId, Map<ApplicationStatus, Integer> deltas) {
+        if (deltas.values().stream().allMatch(delta -> delta == 0)) {
+            return;
+        }
+        JobPipelineStats pipeline = lockOrRebuild(jobId);
+        if (pipeline != null) {
+            deltas.forEach((status, delta) -> pipeline.getCounts().adjust(status, delta));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public JobPipelineResponse getPipeline(Long jobId) {
+        JobPipelineStats pipeline = pipelineRepository.findById(jobId)
+            .orElseGet(() -> computeFromApplications(jobId));
+        return mapToResponse(pipeline);
+    }
+
+    /**
+     * Pipelines for a page of jobs in one query. Jobs without a row yet are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, JobPipelineResponse> getPipelines(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Map.of();
+        }
+        return pipelineRepository.findAllById(jobIds).stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toMap(JobPipelineResponse::getJobId, Function.identity()));
+    }
+
+    /**
+     * Recompute every job's pipeline from the applications table and repair any drift.
+     */
+    @Scheduled(cron = "${application.pipeline.reconcile-cron:0 45 3 * * *}")
+    public void reconcileAll() {
+        log.info("Starting job pipeline reconciliation");
+        int checked = 0;
+        int repaired = 0;
+        Long after = 0L;
+        List<Long> jobIds;
+        do {
+            jobIds = applicationRepository.findJobIdsAfter(after, PageRequest.of(0, reconcileBatchSize));
+            for (Long jobId : jobIds) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(jobId)))) {
+                        repaired++;
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to reconcile pipeline for job {}: {}", jobId, e.getMessage());
+                }
+                checked++;
+            }
+            if (!jobIds.isEmpty()) {
+                after = jobIds.get(jobIds.size() - 1);
+            }
+        } while (jobIds.size() == reconcileBatchSize);
+        log.info("Job pipeline reconciliation finished: {} jobs checked, {} repaired", checked, repaired);
+    }
+
+    /**
+     * Repair one job's pipeline. Returns true if the stored row was missing or had drifted.
+     */
+    @Transactional
+    public boolean reconcile(Long jobId) {
+        pipelineRepository.insertIfAbsent(jobId);
+        JobPipelineStats stored = pipelineRepository.findByJobIdForUpdate(jobId).orElseThrow();
+        ApplicationStatusCounts actual = computeFromApplications(jobId).getCounts();
+
+        boolean drifted = !Objects.equals(stored.getCounts(), actual);
+        if (drifted) {
+            log.warn("Repairing pipeline drift for job {}: stored={}, actual={}", jobId, stored.getCounts(), actual);
+            stored.setCounts(actual);
+        }
+        jobRepository.updateApplicationsCount(jobId, actual.getTotal());
+        return drifted;
+    }
+
+    /**
+     * Lock the job's row for update, creating it from the applications table if needed.
+     * Returns null when the row was just rebuilt, since that snapshot already includes
+     * the caller's own change.
+     */
+    private JobPipelineStats lockOrRebuild(Long jobId) {
+        JobPipelineStats pipeline = pipelineRepository.findByJobIdForUpdate(jobId).orElse(null);
+        if (pipeline != null) {
+            return pipeline;
+        }
+        ApplicationStatusCounts rebuilt = computeFromApplications(jobId).getCounts();
+        boolean created = pipelineRepository.insertIfAbsent(jobId) == 1;
+        pipeline = pipelineRepository.findByJobIdForUpdate(jobId).orElseThrow();
+        if (!created) {
+            return pipeline;
+        }
+        pipeline.setCounts(rebuilt);
+        jobRepository.updateApplicationsCount(jobId, rebuilt.getTotal());
+        return null;
+    }
+
+    private JobPipelineStats computeFromApplications(Long jobId) {
+        ApplicationStatusCounts counts = ApplicationStatusCounts.empty();
+        for (Object[] row : applicationRepository.countByJobIdGroupedByStatus(jobId)) {
+            int count = ((Long) row[1]).intValue();
+            counts.adjust((ApplicationStatus) row[0], count);
+            counts.setTotal(counts.getTotal() + count);
+        }
+        return JobPipelineStats.builder()
+            .jobId(jobId)
+            .counts(counts)
+            .build();
+    }
+
+    private JobPipelineResponse mapToResponse(JobPipelineStats pipeline) {
+        return JobPipelineResponse.builder()
+            .jobId(pipeline.getJobId())
+            .total(pipeline.getCounts().getTotal())
+            .byStatus(pipeline.getCounts().toFullMap())
+            .updatedAt(pipeline.getUpdatedAt() != null ? pipeline.getUpdatedAt().toString() : null)
+            .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.dto.response.JobResponse;
+import com.example.Application_Service.repository.projection.JobSummary;
+import com.example.Application_Service.search.JobChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Job detail responses kept as ready-to-write UTF-8 JSON, one entry per job version (updatedAt and
+ * applicationsCount, which is bumped without a new updatedAt).
+ *
+ * The view count moves on every request, so it is left out of the stored bytes and appended
+ * when the body is rendered. Entries are dropped when the job changes on this node
+ * (JobChangedEvent), when the job's current version differs, and after {@code jobs.response-cache.ttl-ms}.
+ *
+ * Bounded by total bytes with LRU eviction and TinyLFU admission: a new job only displaces
+ * the least recently used entries when it has been requested more often than they have
+ * recently, so a burst of one-off lookups cannot flush the hot jobs.
+ */
+@Component
+@Slf4j
+public class JobResponseCache implements MetricsSource {
+
+    private final JsonMapper jsonMapper;
+    private final long maxBytes;
+    private final long ttlMs;
+
+    // Access order: the eldest entry is the least recently used
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final FrequencySketch sketch;
+    private long bytes;
+
+    private long hits;
+    private long misses;
+    private long admitted;
+    private long rejected;
+    private long evicted;
+    private long invalidated;
+
+    public JobResponseCache(JsonMapper jsonMapper,
+                            @Value("${jobs.response-cache.max-bytes:33554432}") long maxBytes,
+                            @Value("${jobs.response-cache.ttl-ms:60000}") long ttlMs,
+                            @Value("${jobs.response-cache.expected-entries:2000}") int expectedEntries) {
+        this.jsonMapper = jsonMapper;
+        this.maxBytes = maxBytes;
+        this.ttlMs = ttlMs;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    /**
+     * Cached response of a job if it is still current. {@code currentVersion} is only asked
+     * when an entry exists, outside the cache lock.
+     */
+    public Optional<Entry> get(Long jobId, Supplier<Optional<JobSummary>> currentVersion) {
+        Entry entry;
+        synchronized (this) {
+            sketch.increment(jobId);
+            entry = entries.get(jobId);
+            if (entry == null) {
+                misses++;
+                return Optional.empty();
+            }
+        }
+
+        boolean fresh = System.currentTimeMillis() < entry.expiresAt
+            && currentVersion.get().map(entry::isVersion).orElse(false);
+        synchronized (this) {
+            if (fresh) {
+                hits++;
+                return Optional.of(entry);
+            }
+            misses++;
+            if (entries.remove(jobId, entry)) {
+                bytes -= entry.body.length;
+                invalidated++;
+            }
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Serialize a freshly built response and offer it to the cache; the returned entry renders
+     * the body either way. {@code recordedViews} is JobViewCounter.recordedViews at build time.
+     */
+    public Entry put(JobResponse response, long recordedViews) {
+        ObjectNode tree = jsonMapper.valueToTree(response);
+        tree.remove("viewsCount");
+        byte[] json = jsonMapper.writeValueAsBytes(tree);
+        // Keep everything but the closing brace; render() appends the view count and closes the object
+        Entry entry = new Entry(response.getId(), response.getUpdatedAt(), response.getApplicationsCount(),
+            Arrays.copyOf(json, json.length - 1),
+            response.getViewsCount() != null ? response.getViewsCount() : 0, recordedViews,
+            System.currentTimeMillis() + ttlMs);
+        if (entry.updatedAt == null || entry.body.length > maxBytes) {
+            return entry;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.remove(entry.jobId);
+            if (previous != null) {
+                bytes -= previous.body.length;
+            }
+            if (!makeRoom(entry)) {
+                rejected++;
+                return entry;
+            }
+            entries.put(entry.jobId, entry);
+            bytes += entry.body.length;
+            admitted++;
+        }
+        return entry;
+    }
+
+    public synchronized void evict(Long jobId) {
+        Entry removed = entries.remove(jobId);
+        if (removed != null) {
+            bytes -= removed.body.length;
+            invalidated++;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        event.jobIds().forEach(this::evict);
+    }
+
+    // Evict least recently used entries until the candidate fits, unless one of them is used
+    // at least as often as the candidate (TinyLFU admission); called under the lock
+    private boolean makeRoom(Entry candidate) {
+        if (bytes + candidate.body.length <= maxBytes) {
+            return true;
+        }
+        int candidateFrequency = sketch.frequency(candidate.jobId);
+        long freed = 0;
+        List<Long> victims = new ArrayList<>();
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes - freed + candidate.body.length > maxBytes && eldest.hasNext()) {
+            Entry victim = eldest.next().getValue();
+            if (sketch.frequency(victim.jobId) >= candidateFrequency) {
+                return false;
+            }
+            victims.add(victim.jobId);
+            freed += victim.body.length;
+        }
+        for (Long victim : victims) {
+            bytes -= entries.remove(victim).body.length;
+            evicted++;
+        }
+        return true;
+    }
+
+    @Override
+    public String metricsName() {
+        return "jobResponseCache";
+    }
+
+    @Override
+    public synchronized Map<String, Object> metrics() {
+        long lookups = hits + misses;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("entries", entries.size());
+        metrics.put("bytes", bytes);
+        metrics.put("hits", hits);
+        metrics.put("misses", misses);
+        metrics.put("hitRatio", lookups > 0 ? (double) hits / lookups : 0.0);
+        metrics.put("admitted", admitted);
+        metrics.put("rejectedByAdmission", rejected);
+        metrics.put("evicted", evicted);
+        metrics.put("invalidated", invalidated);
+        return metrics;
+    }
+
+    /**
+     * One job version as JSON without its view count
+     */
+    public static final class Entry {
+        private final Long jobId;
+        private final LocalDateTime updatedAt;
+        private final Integer applicationsCount;
+        private final byte[] body;
+        private final int viewsCount;
+        private final long recordedViews;
+        private final long expiresAt;
+
+        private Entry(Long jobId, LocalDateTime updatedAt, Integer applicationsCount, byte[] body, int viewsCount,
+                      long recordedViews, long expiresAt) {
+            this.jobId = jobId;
+            this.updatedAt = updatedAt;
+            this.applicationsCount = applicationsCount;
+            this.body = body;
+            this.viewsCount = viewsCount;
+            this.recordedViews = recordedViews;
+            this.expiresAt = expiresAt;
+        }
+
+        public LocalDateTime updatedAt() {
+            return updatedAt;
+        }
+
+        boolean isVersion(JobSummary version) {
+            return updatedAt.equals(version.updatedAt()) && Objects.equals(applicationsCount, version.applicationsCount());
+        }
+
+        /**
+         * Complete JSON body; {@code recordedViews} is JobViewCounter.recordedViews now, so views
+         * counted on this node since the entry was built are included
+         */
+        public byte[] render(long recordedViews) {
+            long views = viewsCount + Math.max(0, recordedViews - this.recordedViews);
+            byte[] suffix = ((body.length > 1 ? "," : "") + "\"viewsCount\":" + Math.min(views, Integer.MAX_VALUE) + "}")
+                .getBytes(StandardCharsets.UTF_8);
+            byte[] rendered = Arrays.copyOf(body, body.length + suffix.length);
+            System.arraycopy(suffix, 0, rendered, body.length, suffix.length);
+            return rendered;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.domain.entity.Job;
+import com.example.Application_Service.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Parses the salary text of jobs written before the structured salary columns existed.
+ *
+ * Runs once in the background after startup, in id order and one transaction per batch. Updated
+ * jobs get a new updated_at, so the search index picks up their salary on its next sync.
+ * Texts that do not parse stay unparsed and are simply looked at again on the next startup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSalaryBackfill {
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${jobs.salary-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        taskScheduler.schedule(() -> {
+            try {
+                backfill();
+            } catch (Exception e) {
+                log.error("Salary backfill failed: {}", e.getMessage(), e);
+            }
+        }, Instant.now());
+    }
+
+    /**
+     * Parse every job whose salary text has no parsed range yet; returns the number of jobs filled
+     */
+    public long backfill() {
+        long checked = 0;
+        long parsed = 0;
+        Long after = 0L;
+        List<Long> ids;
+        do {
+            ids = jobRepository.findIdsWithUnparsedSalaryAfter(after, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                List<Long> batch = ids;
+                Long filled = transactionTemplate.execute(status -> {
+                    long count = 0;
+                    for (Job job : jobRepository.findAllById(batch)) {
+                        JobService.applySalaryRange(job);
+                        if (job.getSalaryMax() != null) {
+                            count++;
+                        }
+                    }
+                    return count;
+                });
+                parsed += filled != null ? filled : 0;
+                checked += batch.size();
+                after = batch.get(batch.size() - 1);
+            }
+        } while (ids.size() == batchSize);
+
+        if (checked > 0) {
+            log.info("Salary backfill finished: {} jobs checked, {} parsed", checked, parsed);
+        }
+        return parsed;
+    }
+}
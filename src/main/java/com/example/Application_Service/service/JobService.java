@@ -2,22 +2,38 @@ package com.example.Application_Service.service;
 
 import com.example.Application_Service.domain.entity.Job;
 import com.example.Application_Service.domain.enums.JobStatus;
+import com.example.Application_Service.dto.PageCursor;
+import com.example.Application_Service.dto.SalaryRange;
 import com.example.Application_Service.dto.request.CreateJobRequest;
+import com.example.Application_Service.dto.response.JobClosureProgressResponse;
+import com.example.Application_Service.dto.response.JobPipelineResponse;
 import com.example.Application_Service.dto.response.JobResponse;
 import com.example.Application_Service.dto.response.PagedJobsResponse;
 import com.example.Application_Service.dto.response.PagedResponse;
+import com.example.Application_Service.exception.JobNotFoundException;
+import com.example.Application_Service.exception.UnauthorizedAccessException;
+import com.example.Application_Service.kafka.JobEventOutbox;
+import com.example.Application_Service.repository.ApplicationViewProjector;
 import com.example.Application_Service.repository.JobRepository;
+import com.example.Application_Service.repository.projection.JobSummary;
+import com.example.Application_Service.search.JobChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +42,19 @@ import java.util.stream.Collectors;
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final JobPipelineService jobPipelineService;
+    private final JobViewCounter jobViewCounter;
+    private final JobClosureService jobClosureService;
+    private final JobStatusCache jobStatusCache;
+    private final ApplicationViewProjector applicationViewProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobResponseCache jobResponseCache;
+    private final JobEventOutbox jobEventOutbox;
+
+    /**
+     * Job detail as UTF-8 JSON and the version it shows
+     */
+    public record RenderedJob(byte[] json, JobSummary version) {}
 
     @Transactional
     public JobResponse createJob(CreateJobRequest request, String employerId) {
@@ -51,36 +80,59 @@ public class JobService {
                 .educationRequired(request.getEducationRequired())
                 .employerId(employerId)
                 .build();
+        applySalaryRange(job);
 
         Job saved = jobRepository.save(job);
         log.info("Job created successfully with ID: {}", saved.getId());
+        eventPublisher.publishEvent(new JobChangedEvent(saved.getId()));
+        jobEventOutbox.enqueue(jobEventOutbox.event(JobEventOutbox.JOB_CREATED, saved, null));
 
         return mapToResponse(saved);
     }
 
-    public PagedJobsResponse getJobsByEmployer(String employerId, String status, int page, int limit, String sortBy, String sortOrder) {
+    /**
+     * Page through an employer's jobs. {@code minSalary} keeps jobs whose parsed yearly maximum
+     * reaches it and {@code currency} those paid in that ISO currency; sortBy=salary sorts on the
+     * maximum (both served by idx_job_employer_salary_max).
+     */
+    public PagedJobsResponse getJobsByEmployer(String employerId, String status, Long minSalary, String currency,
+                                               int page, int limit, String sortBy, String sortOrder) {
         log.info("Fetching jobs for employer: {} with status: {}", employerId, status);
 
-        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder),
-                sortBy != null ? sortBy : "createdAt");
+        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortProperty(sortBy));
         Pageable pageable = PageRequest.of(page - 1, limit, sort);
 
-        Page<Job> jobs;
+        String jobStatus = null;
         if (status != null && !status.isEmpty()) {
             try {
-                JobStatus jobStatus = JobStatus.valueOf(status.toUpperCase());
-                jobs = jobRepository.findByEmployerIdAndStatus(employerId, jobStatus.name(), pageable);
+                jobStatus = JobStatus.valueOf(status.toUpperCase()).name();
             } catch (IllegalArgumentException e) {
                 log.warn("Invalid status filter: {}", status);
-                jobs = jobRepository.findByEmployerId(employerId, pageable);
             }
+        }
+
+        String currencyCode = currency != null && !currency.isBlank() ? currency.trim().toUpperCase(Locale.ROOT) : null;
+
+        Page<Job> jobs;
+        if (currencyCode != null && jobStatus != null) {
+            jobs = minSalary != null
+                    ? jobRepository.findByEmployerIdAndStatusAndSalaryCurrencyAndSalaryMaxGreaterThanEqual(employerId, jobStatus, currencyCode, minSalary, pageable)
+                    : jobRepository.findByEmployerIdAndStatusAndSalaryCurrency(employerId, jobStatus, currencyCode, pageable);
+        } else if (currencyCode != null) {
+            jobs = minSalary != null
+                    ? jobRepository.findByEmployerIdAndSalaryCurrencyAndSalaryMaxGreaterThanEqual(employerId, currencyCode, minSalary, pageable)
+                    : jobRepository.findByEmployerIdAndSalaryCurrency(employerId, currencyCode, pageable);
+        } else if (jobStatus != null) {
+            jobs = minSalary != null
+                    ? jobRepository.findByEmployerIdAndStatusAndSalaryMaxGreaterThanEqual(employerId, jobStatus, minSalary, pageable)
+                    : jobRepository.findByEmployerIdAndStatus(employerId, jobStatus, pageable);
         } else {
-            jobs = jobRepository.findByEmployerId(employerId, pageable);
+            jobs = minSalary != null
+                    ? jobRepository.findByEmployerIdAndSalaryMaxGreaterThanEqual(employerId, minSalary, pageable)
+                    : jobRepository.findByEmployerId(employerId, pageable);
         }
 
-        List<JobResponse> jobResponses = jobs.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<JobResponse> jobResponses = mapWithPipelines(jobs.getContent());
 
         return PagedJobsResponse.builder()
                 .jobs(jobResponses)
@@ -93,14 +145,112 @@ public class JobService {
                 .build();
     }
 
+    /**
+     * Get an employer's jobs using keyset pagination (newest first).
+     * Pass an empty cursor for the first page and the returned nextCursor for the following ones.
+     */
+    public PagedJobsResponse getJobsByEmployerWithCursor(String employerId, String status, String cursor, int limit, boolean includeTotal) {
+        log.info("Fetching jobs for employer: {} with status: {} (cursor)", employerId, status);
+
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, limit + 1);
+        String jobStatus = resolveStatusFilter(status);
+
+        List<Job> rows;
+        Long total = null;
+        if (jobStatus != null) {
+            rows = after == null
+                    ? jobRepository.findByEmployerIdAndStatusFirst(employerId, jobStatus, window)
+                    : jobRepository.findByEmployerIdAndStatusBefore(employerId, jobStatus,
+                            after.sortKeyAsLocalDateTime(), after.idAsLong(), window);
+            if (includeTotal) {
+                total = jobRepository.countByEmployerIdAndStatus(employerId, jobStatus);
+            }
+        } else {
+            rows = after == null
+                    ? jobRepository.findByEmployerIdFirst(employerId, window)
+                    : jobRepository.findByEmployerIdBefore(employerId,
+                            after.sortKeyAsLocalDateTime(), after.idAsLong(), window);
+            if (includeTotal) {
+                total = jobRepository.countByEmployerId(employerId);
+            }
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<Job> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Job last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return PagedJobsResponse.builder()
+                .jobs(mapWithPipelines(page))
+                .pagination(PagedResponse.PaginationInfo.forCursor(limit, nextCursor, total))
+                .build();
+    }
+
+    /**
+     * Match a status filter against JobStatus ignoring case; unknown values mean no filter.
+     */
+    private String resolveStatusFilter(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        for (JobStatus jobStatus : JobStatus.values()) {
+            if (jobStatus.name().equalsIgnoreCase(status)) {
+                return jobStatus.name();
+            }
+        }
+        log.warn("Invalid status filter: {}", status);
+        return null;
+    }
+
     public JobResponse getJobById(Long jobId) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
         return mapToResponse(job);
     }
 
+    /**
+     * Current version of a job (updatedAt and counters), to validate conditional GETs. Read through
+     * JobStatusCache, so a cache hit costs no database read; changes from other nodes show within the cache TTL.
+     */
+    public Optional<JobSummary> getVersion(Long jobId) {
+        return jobStatusCache.get(jobId);
+    }
+
+    /**
+     * Count a view of the detail page, also when it was answered with 304 Not Modified
+     */
+    public void recordView(Long jobId) {
+        jobViewCounter.recordView(jobId);
+    }
+
+    /**
+     * Job detail page as ready-to-write JSON, from JobResponseCache while the job's version is
+     * unchanged; counts the view
+     */
+    public RenderedJob viewJobJson(Long jobId) {
+        JobResponseCache.Entry entry = jobResponseCache.get(jobId, () -> getVersion(jobId))
+                .orElseGet(() -> {
+                    JobResponse response = getJobById(jobId);
+                    return jobResponseCache.put(response, jobViewCounter.recordedViews(jobId));
+                });
+        recordView(jobId);
+        // The version conditional GETs will be checked against, which the cached entry was just validated by
+        return new RenderedJob(entry.render(jobViewCounter.recordedViews(jobId)), getVersion(jobId).orElse(null));
+    }
+
+    /**
+     * Update a job's status. When the job is closed with {@code rejectOpenApplications},
+     * its open applications are rejected in the background once the status change is committed
+     * (so no new application can slip in behind the run); progress is available from getClosureProgress.
+     */
     @Transactional
-    public JobResponse updateJobStatus(Long jobId, String status, String employerId) {
+    public JobResponse updateJobStatus(Long jobId, String status, String employerId,
+                                       boolean rejectOpenApplications, String reason) {
         log.info("Updating job {} status to {} for employer: {}", jobId, status, employerId);
 
         Job job = jobRepository.findById(jobId)
@@ -111,15 +261,103 @@ public class JobService {
         }
 
         job.setStatus(status);
-        Job updated = jobRepository.save(job);
+        Job updated = jobRepository.saveAndFlush(job);
+        // Application lists read the job summary from application_view
+        applicationViewProjector.refreshJob(jobId);
+        eventPublisher.publishEvent(new JobChangedEvent(jobId));
+        // Other nodes drop their cached copies when the event reaches them
+        jobEventOutbox.enqueue(jobEventOutbox.event(JobEventOutbox.JOB_UPDATED, updated, List.of("status")));
+
+        boolean autoReject = rejectOpenApplications && JobStatus.Closed.name().equalsIgnoreCase(status);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Submissions read the job status from the cache; drop the stale entry on this node
+                jobStatusCache.evict(jobId);
+                if (autoReject) {
+                    jobClosureService.startAutoReject(updated, reason);
+                }
+            }
+        });
 
         return mapToResponse(updated);
     }
 
+    /**
+     * Progress of the auto-reject run started when one of the employer's jobs was closed
+     */
+    public JobClosureProgressResponse getClosureProgress(Long jobId, String employerId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Job not found with id: " + jobId));
+
+        if (!job.getEmployerId().equals(employerId)) {
+            throw new UnauthorizedAccessException("Not authorized to view the closure of this job");
+        }
+
+        JobClosureProgressResponse progress = jobClosureService.getProgress(jobId);
+        if (progress == null) {
+            throw new JobNotFoundException("No auto-reject run found for job: " + jobId);
+        }
+        return progress;
+    }
+
+    /**
+     * Applicant pipeline (total and count per status) for one of the employer's jobs
+     */
+    public JobPipelineResponse getPipelineSummary(Long jobId, String employerId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException("Job not found with id: " + jobId));
+
+        if (!job.getEmployerId().equals(employerId)) {
+            throw new UnauthorizedAccessException("Not authorized to view the pipeline of this job");
+        }
+
+        return jobPipelineService.getPipeline(jobId);
+    }
+
     public long countJobsByEmployer(String employerId) {
         return jobRepository.countByEmployerId(employerId);
     }
 
+    /**
+     * Map an employer's page of jobs, attaching each job's pipeline (one query for the whole page)
+     */
+    private List<JobResponse> mapWithPipelines(List<Job> jobs) {
+        Map<Long, JobPipelineResponse> pipelines = jobPipelineService.getPipelines(
+                jobs.stream().map(Job::getId).collect(Collectors.toList()));
+
+        return jobs.stream()
+                .map(job -> {
+                    JobResponse response = mapToResponse(job);
+                    JobPipelineResponse pipeline = pipelines.get(job.getId());
+                    if (pipeline != null) {
+                        response.setApplicationsCount(pipeline.getTotal());
+                        response.setApplicationsByStatus(pipeline.getByStatus());
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Fill the structured salary columns from the salary text (cleared when it does not parse)
+     */
+    static void applySalaryRange(Job job) {
+        Optional<SalaryRange> range = SalaryRange.parse(job.getSalary());
+        job.setSalaryMin(range.map(SalaryRange::min).orElse(null));
+        job.setSalaryMax(range.map(SalaryRange::max).orElse(null));
+        job.setSalaryCurrency(range.map(SalaryRange::currency).orElse(null));
+        job.setSalaryPeriod(range.map(r -> r.period().name()).orElse(null));
+    }
+
+    // "salary" sorts on the parsed yearly maximum rather than the text
+    private static String sortProperty(String sortBy) {
+        if (sortBy == null) {
+            return "createdAt";
+        }
+        return "salary".equals(sortBy) ? "salaryMax" : sortBy;
+    }
+
     private JobResponse mapToResponse(Job job) {
         return JobResponse.builder()
                 .id(job.getId())
@@ -129,6 +367,10 @@ public class JobService {
                 .location(job.getLocation())
                 .type(job.getType())
                 .salary(job.getSalary())
+                .salaryMin(job.getSalaryMin())
+                .salaryMax(job.getSalaryMax())
+                .salaryCurrency(job.getSalaryCurrency())
+                .salaryPeriod(job.getSalaryPeriod())
                 .description(job.getDescription())
                 .responsibilities(job.getResponsibilities())
                 .skills(job.getSkills())
@@ -136,7 +378,7 @@ public class JobService {
                 .status(job.getStatus())
                 .postedDate(job.getPostedDate())
                 .applicationsCount(job.getApplicationsCount())
-                .viewsCount(job.getViewsCount())
+                .viewsCount(jobViewCounter.totalViews(job.getId(), job.getViewsCount()))
                 .seniority(job.getSeniority())
                 .isRemote(job.getIsRemote())
                 .educationRequired(job.getEducationRequired())
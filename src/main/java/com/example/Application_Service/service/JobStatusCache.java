@@ -0,0 +1,59 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.repository.JobRepository;
+import com.example.Application_Service.repository.projection.JobSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived in-memory copy of job summaries, used on the submit path to check that a job
+ * is Published without a database read. Entries expire after {@code jobs.status-cache.ttl-ms};
+ * status changes made on this node evict the entry immediately, other nodes see them within the TTL.
+ */
+@Component
+public class JobStatusCache {
+
+    private final JobRepository jobRepository;
+    private final long ttlMs;
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public JobStatusCache(JobRepository jobRepository,
+                          @Value("${jobs.status-cache.ttl-ms:30000}") long ttlMs,
+                          @Value("${jobs.status-cache.max-size:10000}") int maxSize) {
+        this.jobRepository = jobRepository;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    public Optional<JobSummary> get(Long jobId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(jobId);
+        if (entry != null && entry.expiresAt() > now) {
+            return Optional.of(entry.job());
+        }
+        
+        Optional<JobSummary> loaded = jobRepository.findById(jobId).map(JobSummary::of);
+        loaded.ifPresent(job -> {
+            if (entries.size() >= maxSize) {
+                entries.values().removeIf(stale -> stale.expiresAt() <= now);
+                if (entries.size() >= maxSize) {
+                    entries.clear();
+                }
+            }
+            entries.put(jobId, new Entry(job, now + ttlMs));
+        });
+        return loaded;
+    }
+
+    public void evict(Long jobId) {
+        entries.remove(jobId);
+    }
+
+    private record Entry(JobSummary job, long expiresAt) {}
+}
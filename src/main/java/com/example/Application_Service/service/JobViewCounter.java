@@ -0,0 +1,177 @@
+package com.example.Application_Service.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts job detail views without writing to the job row on every request.
+ *
+ * Views accumulate in a per-job LongAdder (striped, lock-free under contention) and are
+ * flushed to job.views_count in one JDBC batch on a fixed delay and on shutdown.
+ * A failed flush puts the drained counts back, so views are delivered at least once.
+ * A counter that had nothing to flush for a whole interval is dropped, so only recently viewed
+ * jobs hold one; a view that lands in a counter just dropped is moved to a new one.
+ * A second, never-drained counter per job (recordedViews) lets cached responses add the views
+ * recorded since they were built. It is dropped once it has not moved for longer than a cached
+ * response lives ({@code jobs.response-cache.ttl-ms}), as no response can still refer to it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobViewCounter implements MetricsSource {
+
+    private static final String FLUSH_SQL =
+            "UPDATE job SET views_count = COALESCE(views_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, RecordedViews> recorded = new ConcurrentHashMap<>();
+
+    @Value("${jobs.response-cache.ttl-ms:60000}")
+    private long recordedRetentionMs;
+
+    public void recordView(Long jobId) {
+        addPending(jobId, 1);
+        RecordedViews counter = recorded.get(jobId);
+        if (counter == null) {
+            counter = recorded.computeIfAbsent(jobId, id -> new RecordedViews());
+        }
+        counter.views.increment();
+    }
+
+    /**
+     * Views recorded on this node since the job's counter was created, flushed or not; only grows
+     * while a cached response may use it
+     */
+    public long recordedViews(Long jobId) {
+        RecordedViews counter = recorded.get(jobId);
+        return counter != null ? counter.views.sum() : 0;
+    }
+
+    private void addPending(Long jobId, long views) {
+        LongAdder counter = pending.get(jobId);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(jobId, id -> new LongAdder());
+        }
+        counter.add(views);
+        moveIfDropped(jobId, counter);
+    }
+
+    // A flush may drop the counter between lookup and add; what landed in it goes to the current one.
+    // sumThenReset takes each cell atomically, so concurrent movers never move a view twice.
+    private void moveIfDropped(Long jobId, LongAdder counter) {
+        while (pending.get(jobId) != counter) {
+            long stranded = counter.sumThenReset();
+            if (stranded == 0) {
+                return;
+            }
+            counter = pending.computeIfAbsent(jobId, id -> new LongAdder());
+            counter.add(stranded);
+        }
+    }
+
+    /**
+     * Views recorded on this node that have not been flushed yet
+     */
+    public long pendingViews(Long jobId) {
+        LongAdder counter = pending.get(jobId);
+        return counter != null ? counter.sum() : 0;
+    }
+
+    /**
+     * Persisted count merged with this node's pending views
+     */
+    public int totalViews(Long jobId, Integer persisted) {
+        long total = (persisted != null ? persisted : 0) + pendingViews(jobId);
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        expireRecorded();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                batch.add(new Object[]{views, entry.getKey()});
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // Idle since the last flush
+                moveIfDropped(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            log.debug("Flushed view counts for {} jobs", batch.size());
+        } catch (Exception e) {
+            log.error("Failed to flush view counts for {} jobs, will retry: {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                addPending((Long) row[1], (Long) row[0]);
+            }
+        }
+    }
+
+    @Override
+    public String metricsName() {
+        return "jobViews";
+    }
+
+    @Override
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pendingJobs", pending.size());
+        metrics.put("pendingViews", pending.values().stream().mapToLong(LongAdder::sum).sum());
+        metrics.put("recordedJobs", recorded.size());
+        return metrics;
+    }
+
+    // Drop recorded counters that have not moved for the retention. A view racing the removal is
+    // only missing from the view count of a cached response, never from views_count.
+    private void expireRecorded() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, RecordedViews> entry : recorded.entrySet()) {
+            RecordedViews counter = entry.getValue();
+            long views = counter.views.sum();
+            if (views != counter.lastSum) {
+                counter.lastSum = views;
+                counter.changedAt = now;
+            } else if (now - counter.changedAt > recordedRetentionMs) {
+                recorded.remove(entry.getKey(), counter);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        long unflushed = pending.values().stream().mapToLong(LongAdder::sum).sum();
+        if (unflushed > 0) {
+            log.warn("{} job views could not be flushed before shutdown", unflushed);
+        }
+    }
+
+    private static final class RecordedViews {
+        private final LongAdder views = new LongAdder();
+        // Only read and written by flush()
+        private long lastSum;
+        private long changedAt = System.currentTimeMillis();
+    }
+}
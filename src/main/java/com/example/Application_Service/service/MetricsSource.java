@@ -0,0 +1,20 @@
+package com.example.Application_Service.service;
+
+import java.util.Map;
+
+/**
+ * A component that reports operational metrics (queue depth, lag, hit ratios)
+ * on the internal metrics endpoint.
+ */
+public interface MetricsSource {
+
+    /**
+     * Section name the metrics are grouped under
+     */
+    String metricsName();
+
+    /**
+     * Current values; computed on each call
+     */
+    Map<String, Object> metrics();
+}
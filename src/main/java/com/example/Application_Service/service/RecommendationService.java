@@ -31,6 +31,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -523,10 +524,15 @@ public class RecommendationService {
             log.info("Found {} cached recommendations for user {}", cachedRecs.getContent().size(), userId);
         }
         
-        // Map cached recommendations to response
+        // Map cached recommendations to response; the page's jobs (and their collections) load in one go
+        Map<Long, Job> jobsById = jobRepository.findAllById(cachedRecs.getContent().stream()
+                .map(RecommendationCache::getJobId)
+                .collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(Job::getId, Function.identity()));
         List<RecommendationResponse.JobRecommendation> recommendations = cachedRecs.getContent().stream()
             .map(cache -> {
-                Job job = jobRepository.findById(cache.getJobId()).orElse(null);
+                Job job = jobsById.get(cache.getJobId());
                 if (job == null) return null;
                 
                 return RecommendationResponse.JobRecommendation.builder()
@@ -1,6 +1,7 @@
 package com.example.Application_Service.service;
 
 import com.example.Application_Service.domain.entity.SavedJob;
+import com.example.Application_Service.dto.PageCursor;
 import com.example.Application_Service.dto.response.PagedResponse;
 import com.example.Application_Service.dto.response.SavedJobResponse;
 import com.example.Application_Service.dto.response.SavedJobsResponse;
@@ -102,6 +103,36 @@ public class SavedJobService {
             .build();
     }
 
+    /**
+     * Get saved jobs using keyset pagination (most recently saved first).
+     * Pass an empty cursor for the first page and the returned nextCursor for the following ones.
+     */
+    public SavedJobsResponse getSavedJobsWithCursor(String userId, String cursor, int limit, boolean includeTotal) {
+        log.info("Fetching saved jobs for user {} with cursor", userId);
+
+        PageCursor after = PageCursor.decode(cursor);
+        Pageable window = PageRequest.of(0, limit + 1);
+
+        List<SavedJob> rows = after == null
+            ? savedJobRepository.findByUserIdFirst(userId, window)
+            : savedJobRepository.findByUserIdBefore(userId, after.sortKeyAsInstant(), after.id(), window);
+
+        boolean hasMore = rows.size() > limit;
+        List<SavedJob> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            SavedJob last = page.get(page.size() - 1);
+            nextCursor = PageCursor.of(last.getSavedDate(), last.getId()).encode();
+        }
+
+        return SavedJobsResponse.builder()
+            .savedJobs(page.stream().map(this::mapToResponse).collect(Collectors.toList()))
+            .pagination(PagedResponse.PaginationInfo.forCursor(limit, nextCursor,
+                includeTotal ? savedJobRepository.countByUserId(userId) : null))
+            .build();
+    }
+
     public Map<String, Long> getSavedJobsCount(String userId) {
         log.info("Fetching saved jobs count for user {}", userId);
         
@@ -13,10 +13,17 @@ CREATE TABLE IF NOT EXISTS job (
     location VARCHAR(255),
     type VARCHAR(100),
     salary VARCHAR(100),
+    -- Parsed from salary at write time, amounts normalized to a year
+    salary_min BIGINT,
+    salary_max BIGINT,
+    salary_currency VARCHAR(3),
+    salary_period VARCHAR(10),
     description TEXT,
     status VARCHAR(50) DEFAULT 'Draft',
     posted_date DATE,
     employer_id VARCHAR(36) NOT NULL,
+    -- Posting id in the employer's ATS (bulk ingestion), NULL for jobs created one by one
+    external_id VARCHAR(255),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     applications_count INTEGER DEFAULT 0,
@@ -27,6 +34,17 @@ CREATE TABLE IF NOT EXISTS job (
     education_required VARCHAR(255)
 );
 
+-- Keyset pagination of employer job lists: (employer_id[, status], created_at, id)
+CREATE INDEX IF NOT EXISTS idx_job_employer_created ON job (employer_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_job_employer_status_created ON job (employer_id, status, created_at, id);
+
+-- "salary >= X" filters and salary sorts: range scans on the parsed yearly maximum
+CREATE INDEX IF NOT EXISTS idx_job_status_salary_max ON job (status, salary_max);
+CREATE INDEX IF NOT EXISTS idx_job_employer_salary_max ON job (employer_id, salary_max);
+
+-- Bulk ingestion upserts by the ATS posting id
+CREATE UNIQUE INDEX IF NOT EXISTS uk_job_employer_external ON job (employer_id, external_id);
+
 -- Job responsibilities (element collection)
 CREATE TABLE IF NOT EXISTS job_responsibilities (
     job_id BIGINT NOT NULL,
@@ -70,7 +88,40 @@ CREATE TABLE IF NOT EXISTS applications (
     INDEX idx_user_status (user_id, status),
     INDEX idx_applied_date (applied_date),
     INDEX idx_job_id (job_id),
-    INDEX idx_job_status (job_id, status)
+    INDEX idx_job_status (job_id, status),
+    -- Keyset pagination: (filter columns, created_at, id)
+    INDEX idx_user_created (user_id, created_at, id),
+    INDEX idx_job_created (job_id, created_at, id),
+    INDEX idx_job_status_created (job_id, status, created_at, id)
+);
+
+-- Read model for application lists: application columns plus the job summary, no join needed
+CREATE TABLE IF NOT EXISTS application_view (
+    id VARCHAR(36) PRIMARY KEY,
+    user_id VARCHAR(36) NOT NULL,
+    job_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    applied_date DATE,
+    resume_id VARCHAR(36),
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    applicant_name VARCHAR(255),
+    applicant_email VARCHAR(255),
+    job_title VARCHAR(255),
+    job_company VARCHAR(255),
+    job_company_id VARCHAR(255),
+    job_employer_id VARCHAR(255),
+    job_logo VARCHAR(255),
+    job_location VARCHAR(255),
+    job_type VARCHAR(255),
+    job_salary VARCHAR(255),
+    job_posted_date DATE,
+    job_status VARCHAR(255),
+    job_seniority VARCHAR(255),
+
+    INDEX idx_view_user_created (user_id, created_at, id),
+    INDEX idx_view_job_created (job_id, created_at, id),
+    INDEX idx_view_job_status_created (job_id, status, created_at, id)
 );
 
 -- Saved Jobs Table
@@ -81,7 +132,7 @@ CREATE TABLE IF NOT EXISTS saved_jobs (
     saved_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
 
     UNIQUE KEY unique_user_saved_job (user_id, job_id),
-    INDEX idx_user_saved_date (user_id, saved_date)
+    INDEX idx_user_saved_date (user_id, saved_date, id)
 );
 
 -- Recommendation Feedback Table
@@ -110,6 +161,68 @@ CREATE TABLE IF NOT EXISTS recommendation_cache (
     INDEX idx_expires (expires_at)
 );
 
+-- Per-user application counters (maintained with every application write)
+CREATE TABLE IF NOT EXISTS user_application_stats (
+    user_id VARCHAR(36) PRIMARY KEY,
+    total INTEGER NOT NULL DEFAULT 0,
+    applied INTEGER NOT NULL DEFAULT 0,
+    resume_viewed INTEGER NOT NULL DEFAULT 0,
+    in_review INTEGER NOT NULL DEFAULT 0,
+    shortlisted INTEGER NOT NULL DEFAULT 0,
+    interview INTEGER NOT NULL DEFAULT 0,
+    offered INTEGER NOT NULL DEFAULT 0,
+    rejected INTEGER NOT NULL DEFAULT 0,
+    withdrawn INTEGER NOT NULL DEFAULT 0,
+    -- Ring of 32 daily submission counts, slot = epoch day % 32
+    daily_counts INTEGER[],
+    last_bucket_day BIGINT,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Per-job applicant pipeline (job.applications_count mirrors total)
+CREATE TABLE IF NOT EXISTS job_pipeline_stats (
+    job_id BIGINT PRIMARY KEY,
+    total INTEGER NOT NULL DEFAULT 0,
+    applied INTEGER NOT NULL DEFAULT 0,
+    resume_viewed INTEGER NOT NULL DEFAULT 0,
+    in_review INTEGER NOT NULL DEFAULT 0,
+    shortlisted INTEGER NOT NULL DEFAULT 0,
+    interview INTEGER NOT NULL DEFAULT 0,
+    offered INTEGER NOT NULL DEFAULT 0,
+    rejected INTEGER NOT NULL DEFAULT 0,
+    withdrawn INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Transactional outbox: events written with the state change, deleted by the relay once acknowledged
+CREATE TABLE IF NOT EXISTS application_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    event_key VARCHAR(255) NOT NULL,
+    event_type VARCHAR(64),
+    payload BYTEA NOT NULL,
+    content_type VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Which node relays each outbox lane, until when (see OutboxRelay)
+CREATE TABLE IF NOT EXISTS application_outbox_lanes (
+    lane INTEGER PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    leased_until TIMESTAMP NOT NULL
+);
+
+-- Idempotency keys of application submissions; a retry with the same key replays the stored response
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id VARCHAR(255) NOT NULL,
+    idem_key VARCHAR(255) NOT NULL,
+    job_id BIGINT NOT NULL,
+    response_body TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, idem_key),
+    INDEX idx_idempotency_created (created_at)
+);
+
 -- Sample test data for development
 
 -- Insert sample applications for test-user-123
@@ -0,0 +1,38 @@
+package com.example.Application_Service.controller;
+
+import com.example.Application_Service.repository.projection.JobSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Job ETags follow the counters that are bumped without a new updatedAt.
+ */
+class HttpCachingTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 3, 1, 12, 0, 0, 123_456_000);
+
+    @Test
+    void counterBumpChangesTheJobEtag() {
+        String etag = HttpCaching.jobEtag(job(4, 100));
+
+        assertEquals(etag, HttpCaching.jobEtag(job(4, 100)));
+        // updateApplicationsCount and the view flush leave updatedAt as it was
+        assertNotEquals(etag, HttpCaching.jobEtag(job(5, 100)));
+        assertNotEquals(etag, HttpCaching.jobEtag(job(4, 101)));
+    }
+
+    @Test
+    void jobEtagIsWeak() {
+        assertTrue(HttpCaching.jobEtag(job(null, null)).startsWith("W/\"job-7-"));
+    }
+
+    private static JobSummary job(Integer applicationsCount, Integer viewsCount) {
+        return new JobSummary(7L, "Backend Engineer", "Acme", null, "employer-1", null, "Lagos", "Full-time",
+            "$100k", null, null, "Published", "Senior", UPDATED_AT, applicationsCount, viewsCount);
+    }
+}
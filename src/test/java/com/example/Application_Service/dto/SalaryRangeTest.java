@@ -0,0 +1,60 @@
+package com.example.Application_Service.dto;
+
+import com.example.Application_Service.domain.enums.SalaryPeriod;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Salary texts as employers write them, and the yearly range parsed from each.
+ */
+class SalaryRangeTest {
+
+    @Test
+    void rangesAndPeriods() {
+        assertEquals(range(120_000L, 160_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("$120,000 - $160,000"));
+        assertEquals(range(93_600L, 93_600L, "EUR", SalaryPeriod.HOUR), SalaryRange.parse("€45/hr"));
+        assertEquals(range(6_000_000L, 6_000_000L, "NGN", SalaryPeriod.MONTH), SalaryRange.parse("NGN 500k monthly"));
+        assertEquals(range(50_000L, 60_000L, "GBP", SalaryPeriod.YEAR), SalaryRange.parse("£50-60k"));
+        assertEquals(range(null, 90_000L, "CAD", SalaryPeriod.YEAR), SalaryRange.parse("Up to CAD 90k per annum"));
+        assertEquals(range(1_200_000L, 1_500_000L, null, SalaryPeriod.YEAR), SalaryRange.parse("1.2m - 1.5m"));
+    }
+
+    @Test
+    void experienceAndDurationsAreNotAmounts() {
+        assertEquals(range(100_000L, 100_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("2+ years exp, $100k"));
+        assertEquals(range(100_000L, 100_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("1 year experience, $100k"));
+        assertEquals(range(60_000L, 60_000L, "USD", SalaryPeriod.MONTH), SalaryRange.parse("6 months contract, $5000 monthly"));
+        assertEquals(range(90_000L, 110_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("3-5 yrs, $90k-$110k"));
+    }
+
+    @Test
+    void wordsElsewhereInTheTextAreNotCurrencyOrPeriod() {
+        assertEquals(range(100_000L, 100_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("$100k, academic year"));
+        assertEquals(range(120_000L, 120_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("Neuroscience lab, $120,000"));
+        assertEquals(range(120_000L, 150_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("$120k-150k, 4 day week"));
+        assertEquals(range(83_200L, 104_000L, "USD", SalaryPeriod.HOUR), SalaryRange.parse("$40-50 an hour"));
+        assertEquals(range(78_000L, 78_000L, "CAD", SalaryPeriod.DAY), SalaryRange.parse("C$300 per day"));
+        assertEquals(range(90_000L, 90_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("$90k modest bonus"));
+    }
+
+    @Test
+    void implausibleLowerBoundIsDropped() {
+        assertEquals(range(100_000L, 100_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("Level 2, $100k"));
+        assertEquals(range(100_000L, 120_000L, "USD", SalaryPeriod.YEAR), SalaryRange.parse("$100k-$120k + 10% bonus"));
+    }
+
+    @Test
+    void textWithoutUsableAmount() {
+        assertEquals(Optional.empty(), SalaryRange.parse("Competitive"));
+        assertEquals(Optional.empty(), SalaryRange.parse("Negotiable"));
+        assertEquals(Optional.empty(), SalaryRange.parse("45"));
+        assertEquals(Optional.empty(), SalaryRange.parse(null));
+    }
+
+    private static Optional<SalaryRange> range(Long min, Long max, String currency, SalaryPeriod period) {
+        return Optional.of(new SalaryRange(min, max, currency, period));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compares bytes per event and ns per event of the event encodings:
+ * the original HashMap + StringBuilder JSON (copied below), the streaming JSON codec
+ * and the binary codec. Not a unit test; run the main method from the IDE or with
+ * {@code java -cp target/test-classes:target/classes:<deps> ...ApplicationEventCodecBenchmark [iterations]}.
+ */
+public class ApplicationEventCodecBenchmark {
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        ApplicationEventData[] events = sampleEvents();
+
+        JsonApplicationEventCodec json = new JsonApplicationEventCodec();
+        BinaryApplicationEventCodec binary = new BinaryApplicationEventCodec();
+
+        checkRoundTrip(json, events);
+        checkRoundTrip(binary, events);
+
+        System.out.printf("%-16s %14s %12s%n", "encoding", "bytes/event", "ns/event");
+        run("legacy-json", ApplicationEventCodecBenchmark::legacyEncode, events, iterations);
+        run("streaming-json", json::encode, events, iterations);
+        run("binary-v1", binary::encode, events, iterations);
+    }
+
+    private static void run(String name, Function<ApplicationEventData, byte[]> encoder,
+                            ApplicationEventData[] events, int iterations) {
+        long bytes = 0;
+        for (ApplicationEventData event : events) {
+            bytes += encoder.apply(event).length;
+        }
+        // Warm-up, then the measured run
+        measure(encoder, events, iterations / 4);
+        long nanos = measure(encoder, events, iterations);
+        System.out.printf("%-16s %14.1f %12.1f%n", name, (double) bytes / events.length, (double) nanos / iterations);
+    }
+
+    private static long measure(Function<ApplicationEventData, byte[]> encoder, ApplicationEventData[] events, int iterations) {
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            total += encoder.apply(events[i % events.length]).length;
+        }
+        long elapsed = System.nanoTime() - start;
+        sink = total;
+        return elapsed;
+    }
+
+    private static void checkRoundTrip(ApplicationEventCodec codec, ApplicationEventData[] events) {
+        for (ApplicationEventData event : events) {
+            ApplicationEventData decoded = codec.decode(codec.encode(event));
+            if (!decoded.equals(event)) {
+                throw new IllegalStateException(codec.name() + " round trip changed the event: " + decoded);
+            }
+        }
+    }
+
+    private static ApplicationEventData[] sampleEvents() {
+        return new ApplicationEventData[] {
+            ApplicationEventData.submittedApplication("6f1c2b8e-3d4a-4f5b-9c6d-7e8f9a0b1c2d", 1234L,
+                "Senior Software Engineer", "Tech Corp", "company-7c1d", "employer-5a2e",
+                "user-9b3f", "John Doe", "john@example.com", "resume-001", "2026-02-15"),
+            ApplicationEventData.statusUpdatedApplication("0a9b8c7d-6e5f-4a3b-2c1d-0e9f8a7b6c5d", 98765L,
+                "Data Analyst (Remote)", "Acme \"Global\" Ltd", "company-1f2e", "employer-3d4c",
+                "user-5b6a", "Zoë O'Brien", "zoe@example.com", "IN_REVIEW", "SHORTLISTED"),
+            ApplicationEventData.withdrawnApplication("11111111-2222-3333-4444-555555555555", 7L,
+                "Backend Developer", "Startup Inc", "company-aa", "employer-bb",
+                "user-cc", "Ana \\ Maria", "ana@example.com", "WITHDRAWN"),
+        };
+    }
+
+    // ---- Original encoding, kept here for comparison ----
+
+    private static byte[] legacyEncode(ApplicationEventData eventData) {
+        Map<String, Object> event = new HashMap<>();
+        event.put("eventType", eventData.getEventType());
+        event.put("applicationId", eventData.getApplicationId());
+        event.put("jobId", eventData.getJobId());
+        event.put("jobTitle", eventData.getJobTitle());
+        event.put("companyName", eventData.getCompanyName());
+        event.put("companyId", eventData.getCompanyId());
+        event.put("employerId", eventData.getEmployerId());
+        event.put("userId", eventData.getUserId());
+        event.put("applicantName", eventData.getApplicantName());
+        event.put("applicantEmail", eventData.getApplicantEmail());
+        event.put("resumeId", eventData.getResumeId());
+        event.put("status", eventData.getStatus());
+        event.put("appliedDate", eventData.getAppliedDate());
+        event.put("timestamp", eventData.getTimestamp() != null ?
+            eventData.getTimestamp().toString() : System.currentTimeMillis());
+        return convertToJson(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String convertToJson(Map<String, Object> event) {
+        StringBuilder json = new StringBuilder("{");
+        int count = 0;
+        for (Map.Entry<String, Object> entry : event.entrySet()) {
+            if (count > 0) {
+                json.append(",");
+            }
+            json.append("\"").append(entry.getKey()).append("\":");
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                json.append("\"").append(value).append("\"");
+            } else {
+                json.append(value);
+            }
+            count++;
+        }
+        json.append("}");
+        return json.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.Application_Service.kafka;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Both codecs give back the event they encoded; coverLetter is not part of the payload.
+ */
+class ApplicationEventCodecTest {
+
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2026, 2, 15, 9, 30, 12, 123_456_789);
+
+    private final JsonApplicationEventCodec json = new JsonApplicationEventCodec();
+    private final BinaryApplicationEventCodec binary = new BinaryApplicationEventCodec();
+
+    @Test
+    void jsonRoundTrip() {
+        for (ApplicationEventData event : events()) {
+            assertEquals(event, json.decode(json.encode(event)));
+        }
+    }
+
+    @Test
+    void binaryRoundTrip() {
+        for (ApplicationEventData event : events()) {
+            assertEquals(event, binary.decode(binary.encode(event)));
+        }
+    }
+
+    @Test
+    void jsonWithoutTimestampGetsTheSendTime() {
+        ApplicationEventData event = ApplicationEventData.builder().eventType("APPLICATION_SUBMITTED").jobId(1L).build();
+
+        ApplicationEventData decoded = json.decode(json.encode(event));
+
+        assertNotNull(decoded.getTimestamp());
+        assertEquals(1L, decoded.getJobId());
+    }
+
+    @Test
+    void binaryStartsWithMagicAndVersion() {
+        byte[] payload = binary.encode(events().get(0));
+
+        assertEquals(BinaryApplicationEventCodec.MAGIC, payload[0]);
+        assertEquals(BinaryApplicationEventCodec.VERSION, payload[1]);
+    }
+
+    @Test
+    void binaryRejectsOtherVersionsAndJunk() {
+        byte[] payload = binary.encode(events().get(0));
+        payload[1] = BinaryApplicationEventCodec.VERSION + 1;
+
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(payload));
+        assertThrows(IllegalArgumentException.class, () -> binary.decode("{\"eventType\":1}".getBytes(StandardCharsets.UTF_8)));
+        byte[] truncated = binary.encode(events().get(0));
+        assertThrows(IllegalArgumentException.class, () -> binary.decode(Arrays.copyOf(truncated, truncated.length - 3)));
+    }
+
+    @Test
+    void binaryRejectsUnknownEventTypeCode() {
+        // Presence mask with only the eventType bit, then a code past the known types
+        byte[] payload = {BinaryApplicationEventCodec.MAGIC, BinaryApplicationEventCodec.VERSION, 0x01, 99};
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> binary.decode(payload));
+        assertEquals("Unknown application event type code: 99", error.getMessage());
+    }
+
+    @Test
+    void bufferWritesVarintsAndGrows() {
+        EventBuffer buffer = EventBuffer.acquire();
+        buffer.writeVarLong(0);
+        buffer.writeVarLong(300);
+        buffer.writeVarLong(-1);
+        assertArrayEquals(new byte[] {0, (byte) 0xAC, 0x02, -1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01}, buffer.toByteArray());
+
+        // Acquiring again empties the thread's buffer, also after it grew past the retained size
+        byte[] large = new byte[100_000];
+        EventBuffer.acquire().write(large, 0, large.length);
+        assertEquals(0, EventBuffer.acquire().toByteArray().length);
+        EventBuffer reused = EventBuffer.acquire();
+        reused.writeString("Zoë");
+        assertArrayEquals(new byte[] {4, 'Z', 'o', (byte) 0xC3, (byte) 0xAB}, reused.toByteArray());
+    }
+
+    private static List<ApplicationEventData> events() {
+        ApplicationEventData submitted = ApplicationEventData.submittedApplication("6f1c2b8e-3d4a-4f5b-9c6d-7e8f9a0b1c2d",
+            1234L, "Senior Software Engineer", "Tech Corp", "company-7c1d", "employer-5a2e",
+            "user-9b3f", "John Doe", "john@example.com", "resume-001", "2026-02-15");
+        submitted.setTimestamp(TIMESTAMP);
+        ApplicationEventData updated = ApplicationEventData.statusUpdatedApplication("0a9b8c7d-6e5f-4a3b-2c1d-0e9f8a7b6c5d",
+            98765L, "Data Analyst (Remote)", "Acme \"Global\" Ltd", "company-1f2e", "employer-3d4c",
+            "user-5b6a", "Zoë O'Brien", "zoe@example.com", "IN_REVIEW", "SHORTLISTED");
+        updated.setTimestamp(TIMESTAMP);
+        // Every optional field null, and an event type the binary codec has no code for
+        ApplicationEventData sparse = ApplicationEventData.builder()
+            .eventType("APPLICATION_ARCHIVED")
+            .jobId(-42L)
+            .timestamp(TIMESTAMP)
+            .build();
+        ApplicationEventData escaped = ApplicationEventData.builder()
+            .eventType("APPLICATION_WITHDRAWN")
+            .applicantName("Ana \\ Maria\n\"Ä\"")
+            .userId("")
+            .timestamp(TIMESTAMP.withNano(0))
+            .build();
+        return List.of(submitted, updated, sparse, escaped);
+    }
+}
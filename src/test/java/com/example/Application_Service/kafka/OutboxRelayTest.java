@@ -0,0 +1,150 @@
+package com.example.Application_Service.kafka;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Send order and deletion of one relay batch, against canned outbox rows and a scripted broker.
+ */
+class OutboxRelayTest {
+
+    @Test
+    void keyIsNotSentPastAFailedEvent() {
+        // id -> key
+        FakeOutbox outbox = new FakeOutbox(new String[] {"k1", "k2", "k1", "k1", "k2"});
+        FakeBroker broker = new FakeBroker(Set.of(3L));
+
+        new OutboxRelay(outbox, broker, Runnable::run, 1, 100, 1000).poll();
+
+        // Each key's next event only after the previous one was acknowledged; k1 stops at 3
+        assertEquals(List.of(1L, 2L, 3L, 5L), broker.sent);
+        assertEquals(List.of(1L, 2L, 5L), outbox.deleted);
+    }
+
+    @Test
+    void acknowledgedBatchIsDeleted() {
+        FakeOutbox outbox = new FakeOutbox(new String[] {"k1", "k1", "k2"});
+        FakeBroker broker = new FakeBroker(Set.of());
+
+        new OutboxRelay(outbox, broker, Runnable::run, 1, 100, 1000).poll();
+
+        assertEquals(List.of(1L, 3L, 2L), broker.sent);
+        assertEquals(List.of(1L, 3L, 2L), outbox.deleted);
+    }
+
+    private static final class FakeBroker extends KafkaTemplate<String, byte[]> {
+
+        private final Set<Long> failing;
+        private final List<Long> sent = new ArrayList<>();
+
+        FakeBroker(Set<Long> failing) {
+            super(() -> {
+                throw new UnsupportedOperationException();
+            });
+            this.failing = failing;
+        }
+
+        @Override
+        public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record) {
+            long id = Long.parseLong(new String(record.value(), StandardCharsets.UTF_8));
+            sent.add(id);
+            return failing.contains(id)
+                ? CompletableFuture.failedFuture(new IllegalStateException("not acknowledged"))
+                : CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+
+    /**
+     * Outbox rows with ids 1..n and the given keys, all in lane 0; the lane is always free
+     */
+    private static final class FakeOutbox extends JdbcTemplate {
+
+        private final String[] keys;
+        private final List<Long> deleted = new ArrayList<>();
+
+        FakeOutbox(String[] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            return requiredType.cast(Boolean.TRUE);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            return 1;
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            List<T> rows = new ArrayList<>();
+            for (int i = 0; i < keys.length; i++) {
+                int index = i;
+                ResultSet rs = proxy(ResultSet.class, (method, methodArgs) -> switch ((String) methodArgs[0]) {
+                    case "id" -> (long) index + 1;
+                    case "topic" -> "application-events";
+                    case "event_key" -> keys[index];
+                    case "payload" -> String.valueOf(index + 1).getBytes(StandardCharsets.UTF_8);
+                    case "content_type" -> null;
+                    case "created_at" -> new Timestamp(System.currentTimeMillis());
+                    default -> throw new UnsupportedOperationException((String) methodArgs[0]);
+                });
+                try {
+                    rows.add(rowMapper.mapRow(rs, i));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        public int update(String sql, PreparedStatementSetter pss) {
+            Connection connection = proxy(Connection.class, (method, args) -> {
+                Arrays.stream((Object[]) args[1]).forEach(id -> deleted.add((Long) id));
+                return null;
+            });
+            try {
+                pss.setValues(proxy(PreparedStatement.class,
+                    (method, args) -> method.equals("getConnection") ? connection : null));
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return deleted.size();
+        }
+    }
+
+    private interface Handler {
+        Object invoke(String method, Object[] args);
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+}
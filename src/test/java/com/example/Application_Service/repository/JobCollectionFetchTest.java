@@ -0,0 +1,120 @@
+package com.example.Application_Service.repository;
+
+import com.example.Application_Service.domain.entity.Job;
+import com.example.Application_Service.domain.enums.JobStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Loading jobs and touching skills, responsibilities and benefits takes a fixed number of
+ * statements, however many jobs are loaded (no select per job and collection).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.Application_Service.repository.JobCollectionFetchTest$StatementCounter")
+@Transactional
+class JobCollectionFetchTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void listLoadsCollectionsWithOneStatementEach() {
+        String fewEmployer = saveJobs(3);
+        String manyEmployer = saveJobs(40);
+
+        // 1 for the jobs + 1 per collection
+        assertEquals(4, statementsToLoad(() -> jobRepository.findByEmployerId(fewEmployer)));
+        assertEquals(4, statementsToLoad(() -> jobRepository.findByEmployerId(manyEmployer)));
+    }
+
+    @Test
+    void pageLoadsCollectionsWithOneStatementEach() {
+        String employerId = saveJobs(40);
+
+        // jobs + count + 1 per collection
+        assertEquals(5, statementsToLoad(() -> jobRepository.findByEmployerId(employerId, PageRequest.of(0, 20)).getContent()));
+    }
+
+    @Test
+    void findAllByIdLoadsCollectionsWithOneStatementEach() {
+        String employerId = saveJobs(25);
+        List<Long> ids = jobRepository.findByEmployerId(employerId).stream().map(Job::getId).toList();
+        entityManager.clear();
+
+        assertEquals(4, statementsToLoad(() -> jobRepository.findAllById(ids)));
+    }
+
+    private String saveJobs(int count) {
+        String employerId = UUID.randomUUID().toString();
+        for (int i = 0; i < count; i++) {
+            jobRepository.save(Job.builder()
+                    .title("Job " + i)
+                    .employerId(employerId)
+                    .status(JobStatus.Published.name())
+                    .skills(List.of("java", "sql"))
+                    .responsibilities(List.of("build", "review"))
+                    .benefits(List.of("remote"))
+                    .applicationsCount(0)
+                    .viewsCount(0)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return employerId;
+    }
+
+    private long statementsToLoad(JobLoader loader) {
+        StatementCounter.reset();
+        List<Job> jobs = loader.load();
+        for (Job job : jobs) {
+            job.getSkills().size();
+            job.getResponsibilities().size();
+            job.getBenefits().size();
+        }
+        long statements = StatementCounter.count();
+        entityManager.clear();
+        return statements;
+    }
+
+    @FunctionalInterface
+    private interface JobLoader {
+        List<Job> load();
+    }
+
+    /**
+     * Counts the SQL statements prepared on the calling thread, so background work of the
+     * application context does not disturb the count
+     */
+    public static class StatementCounter implements StatementInspector {
+
+        private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+        static void reset() {
+            COUNT.get()[0] = 0;
+        }
+
+        static long count() {
+            return COUNT.get()[0];
+        }
+
+        @Override
+        public String inspect(String sql) {
+            COUNT.get()[0]++;
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.Application_Service.search;
+
+import com.example.Application_Service.search.AutocompleteIndex.Field;
+import com.example.Application_Service.search.AutocompleteIndex.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The cached completion lists stay equal to a full recount through upserts, removals and re-adds.
+ */
+class AutocompleteIndexTest {
+
+    @Test
+    void removedValueLeavesNoDeadEntry() {
+        AutocompleteIndex index = new AutocompleteIndex(10);
+        index.upsert(job(1L, "ab"));
+        index.upsert(job(2L, "acd"));
+        index.upsert(job(3L, "ace"));
+
+        index.remove(2L);
+        assertEquals(List.of(new Suggestion("ab", 1), new Suggestion("ace", 1)), index.complete(Field.TITLE, "a", 10));
+
+        index.upsert(job(2L, "acd"));
+        assertEquals(List.of(new Suggestion("ab", 1), new Suggestion("acd", 1), new Suggestion("ace", 1)),
+            index.complete(Field.TITLE, "a", 10));
+    }
+
+    @Test
+    void upsertMovesTheCountToTheNewValue() {
+        AutocompleteIndex index = new AutocompleteIndex(10);
+        index.upsert(job(1L, "Java Developer"));
+        index.upsert(job(2L, "Java Developer"));
+        index.upsert(job(3L, "Java Architect"));
+
+        index.upsert(job(2L, "java  architect"));
+        assertEquals(List.of(new Suggestion("Java Architect", 2), new Suggestion("Java Developer", 1)),
+            index.complete(Field.TITLE, "JAVA", 10));
+        assertEquals(2, index.size(Field.TITLE));
+    }
+
+    @Test
+    void randomUpdatesMatchARecount() {
+        Random random = new Random(42);
+        String[] titles = {"a", "ab", "abc", "abd", "ac", "acd", "ace", "b", "ba", "bab", "java", "javascript", "jav"};
+        AutocompleteIndex index = new AutocompleteIndex(3);
+        Map<Long, String> jobs = new HashMap<>();
+
+        for (int step = 0; step < 5000; step++) {
+            long id = random.nextInt(40);
+            if (random.nextInt(3) == 0) {
+                index.remove(id);
+                jobs.remove(id);
+            } else {
+                String title = titles[random.nextInt(titles.length)];
+                index.upsert(job(id, title));
+                jobs.put(id, title);
+            }
+            for (String prefix : new String[] {"a", "ab", "ac", "b", "ja", "java"}) {
+                assertEquals(recount(jobs, prefix, 3), index.complete(Field.TITLE, prefix, 3), "step " + step + " prefix " + prefix);
+            }
+        }
+    }
+
+    private static List<Suggestion> recount(Map<Long, String> jobs, String prefix, int limit) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String title : jobs.values()) {
+            if (title.startsWith(prefix)) {
+                counts.merge(title, 1, Integer::sum);
+            }
+        }
+        List<Suggestion> suggestions = new ArrayList<>();
+        counts.forEach((title, count) -> suggestions.add(new Suggestion(title, count)));
+        suggestions.sort((a, b) -> a.count() != b.count() ? b.count() - a.count() : a.value().compareTo(b.value()));
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    private static JobDocument job(Long id, String title) {
+        return new JobDocument(id, title, null, null, null, null, null, null, null, null, null, null,
+            List.of(), "Published", null, 0, 0, null, null, false, null, null, null, null);
+    }
+}
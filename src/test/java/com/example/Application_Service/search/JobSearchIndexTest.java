@@ -0,0 +1,136 @@
+package com.example.Application_Service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ranking, paging, compaction and the patched recency and salary orders of the search index.
+ */
+class JobSearchIndexTest {
+
+    private static final JobSearchQuery BROWSE = query(null, JobSearchQuery.Order.RELEVANCE);
+    private static final JobSearchQuery BY_SALARY = query(null, JobSearchQuery.Order.SALARY);
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.replaceAll(List.of(
+            job(1L, "Backend Engineer", "java services", null, null),
+            job(2L, "Java Engineer", "backend services", null, null),
+            job(3L, "Python Engineer", "data pipelines", null, null)));
+
+        JobSearchIndex.Hits hits = index.search(query("java", null), 0, 10);
+
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertEquals(2, hits.total());
+    }
+
+    @Test
+    void rarerTermWeighsMore() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.replaceAll(List.of(
+            job(1L, "Engineer", "java", null, null),
+            job(2L, "Engineer", "java", null, null),
+            job(3L, "Engineer", "java", null, null),
+            job(4L, "Engineer", "kotlin", null, null)));
+
+        assertEquals(List.of(4L), ids(index.search(query("java kotlin", null), 0, 1)));
+    }
+
+    @Test
+    void pagePastTheLastHitIsEmpty() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.replaceAll(List.of(job(1L, "Java Engineer", null, null, null), job(2L, "Java Developer", null, null, null)));
+
+        JobSearchIndex.Hits hits = index.search(query("java", null), Integer.MAX_VALUE - 10, 100);
+
+        assertEquals(List.of(), hits.documents());
+        assertEquals(2, hits.total());
+        assertEquals(List.of(), index.search(BROWSE, Integer.MAX_VALUE, 100).documents());
+    }
+
+    @Test
+    void compactionDropsReplacedVersions() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.upsert(job(1L, "Keeper", null, null, null));
+        for (int i = 0; i < 2000; i++) {
+            index.upsert(job(2L, "Title" + i, null, null, null));
+        }
+
+        assertEquals(2, index.size());
+        // Without compaction every replaced title would still have postings
+        assertTrue(index.termCount() < 1000, "terms: " + index.termCount());
+        assertEquals(List.of(2L), ids(index.search(query("title1999", null), 0, 10)));
+        assertEquals(0, index.search(query("title5", null), 0, 10).total());
+        assertEquals(List.of(1L), ids(index.search(query("keeper", null), 0, 10)));
+    }
+
+    @Test
+    void patchedOrdersMatchAFullSort() {
+        Random random = new Random(7);
+        JobSearchIndex index = new JobSearchIndex();
+        Map<Long, JobDocument> jobs = new HashMap<>();
+        // Build both cached orders so that the updates below patch them
+        index.search(BROWSE, 0, 1);
+        index.search(BY_SALARY, 0, 1);
+
+        for (int step = 0; step < 3000; step++) {
+            long id = random.nextInt(200);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                jobs.remove(id);
+            } else {
+                LocalDate posted = random.nextInt(5) == 0 ? null : LocalDate.of(2026, 1, 1).plusDays(random.nextInt(30));
+                Long salary = random.nextInt(4) == 0 ? null : 1000L * random.nextInt(20);
+                JobDocument document = job(id, "Engineer", null, posted, salary);
+                index.upsert(document);
+                jobs.put(id, document);
+            }
+            if (step % 100 == 0) {
+                assertOrders(index, jobs);
+            }
+        }
+        assertOrders(index, jobs);
+    }
+
+    private static void assertOrders(JobSearchIndex index, Map<Long, JobDocument> jobs) {
+        Comparator<JobDocument> recency = Comparator
+            .comparing(JobDocument::postedDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(JobDocument::id, Comparator.reverseOrder());
+        Comparator<JobDocument> salary = Comparator
+            .comparing(JobDocument::salaryMax, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(recency);
+
+        assertEquals(sorted(jobs, recency), ids(index.search(BROWSE, 0, jobs.size() + 1)));
+        assertEquals(sorted(jobs, salary), ids(index.search(BY_SALARY, 0, jobs.size() + 1)));
+    }
+
+    private static List<Long> sorted(Map<Long, JobDocument> jobs, Comparator<JobDocument> order) {
+        return jobs.values().stream().sorted(order).map(JobDocument::id).toList();
+    }
+
+    private static List<Long> ids(JobSearchIndex.Hits hits) {
+        List<Long> ids = new ArrayList<>();
+        hits.documents().forEach(document -> ids.add(document.id()));
+        return ids;
+    }
+
+    private static JobSearchQuery query(String keywords, JobSearchQuery.Order order) {
+        return new JobSearchQuery(keywords, null, null, null, null, null, null, order);
+    }
+
+    private static JobDocument job(Long id, String title, String description, LocalDate postedDate, Long salaryMax) {
+        return new JobDocument(id, title, null, null, null, null, null, null, salaryMax, salaryMax != null ? "USD" : null,
+            null, description, List.of(), "Published", postedDate, 0, 0, null, null, false, null, null, null, null);
+    }
+}
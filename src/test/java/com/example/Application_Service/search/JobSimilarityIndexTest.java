@@ -0,0 +1,156 @@
+package com.example.Application_Service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Neighbor lists kept up to date by upserts and removals equal a brute-force comparison of all jobs.
+ */
+class JobSimilarityIndexTest {
+
+    private static final String[] SKILLS = {"Java", "java ", "Spring Boot", "SQL", "Kafka", "React", "Go", "C++",
+        "Python", "AWS", "Docker", "K8s"};
+    private static final String[] SENIORITIES = {"Senior", "Mid", null};
+    private static final String[] LOCATIONS = {"Berlin", "Remote", "london"};
+    private static final String[] TYPES = {"Full-time", "Contract"};
+
+    @Test
+    void similarityIsWeightedJaccard() {
+        JobSimilarityIndex index = new JobSimilarityIndex(5);
+        index.replaceAll(List.of(
+            job(1L, List.of("Java", "SQL"), "Senior", "Berlin", "Full-time"),
+            job(2L, List.of("java", "Kafka"), "Senior", "London", "Full-time"),
+            job(3L, List.of("Python"), "Senior", "Berlin", "Full-time")));
+
+        List<JobSimilarityIndex.Neighbor> neighbors = index.neighbors(1L, 10);
+
+        // Shared java + senior + full-time = 2.5 of a union of 6 (plus sql, kafka, berlin, london); job 3 shares no skill
+        assertEquals(1, neighbors.size());
+        assertEquals(2L, neighbors.get(0).document().id());
+        assertEquals(2.5f / 6f, neighbors.get(0).similarity(), 1e-6f);
+    }
+
+    @Test
+    void updatesMatchBruteForce() {
+        Random random = new Random(7);
+        int neighborCount = 5;
+        JobSimilarityIndex index = new JobSimilarityIndex(neighborCount);
+        Map<Long, JobDocument> jobs = new HashMap<>();
+
+        List<JobDocument> initial = new ArrayList<>();
+        for (long id = 1; id <= 150; id++) {
+            JobDocument document = randomJob(id, random);
+            initial.add(document);
+            jobs.put(id, document);
+        }
+        index.replaceAll(initial);
+        assertMatchesBruteForce(index, jobs, neighborCount);
+
+        for (int step = 0; step < 3000; step++) {
+            long id = 1 + random.nextInt(250);
+            if (random.nextInt(3) == 0) {
+                index.remove(id);
+                jobs.remove(id);
+            } else {
+                JobDocument document = randomJob(id, random);
+                index.upsert(document);
+                jobs.put(id, document);
+            }
+            if (step % 100 == 0) {
+                assertMatchesBruteForce(index, jobs, neighborCount);
+            }
+        }
+        assertMatchesBruteForce(index, jobs, neighborCount);
+    }
+
+    private static void assertMatchesBruteForce(JobSimilarityIndex index, Map<Long, JobDocument> jobs, int neighborCount) {
+        for (JobDocument job : jobs.values()) {
+            Set<String> features = features(job);
+            List<float[]> expected = new ArrayList<>();
+            for (JobDocument other : jobs.values()) {
+                if (other.id().equals(job.id())) {
+                    continue;
+                }
+                Set<String> otherFeatures = features(other);
+                Set<String> union = new HashSet<>(features);
+                union.addAll(otherFeatures);
+                boolean sharesSkill = false;
+                float shared = 0;
+                float total = 0;
+                for (String feature : union) {
+                    if (features.contains(feature) && otherFeatures.contains(feature)) {
+                        shared += weight(feature);
+                        sharesSkill |= feature.startsWith("skill:");
+                    }
+                    total += weight(feature);
+                }
+                if (sharesSkill) {
+                    expected.add(new float[] {shared / total, other.id()});
+                }
+            }
+            // Most similar first, ties highest id first
+            expected.sort((a, b) -> a[0] != b[0] ? Float.compare(b[0], a[0]) : Float.compare(b[1], a[1]));
+
+            List<JobSimilarityIndex.Neighbor> neighbors = index.neighbors(job.id(), 100);
+            assertEquals(Math.min(neighborCount, expected.size()), neighbors.size(), "neighbors of " + job.id());
+            for (int i = 0; i < neighbors.size(); i++) {
+                assertEquals(expected.get(i)[0], neighbors.get(i).similarity(), 1e-5f, "neighbor " + i + " of " + job.id());
+            }
+        }
+    }
+
+    private static Set<String> features(JobDocument job) {
+        Set<String> features = new HashSet<>();
+        for (String skill : job.skills()) {
+            String key = String.join(" ", Tokenizer.tokenize(skill));
+            if (!key.isEmpty()) {
+                features.add("skill:" + key);
+            }
+        }
+        if (job.seniority() != null) {
+            features.add("seniority:" + job.seniority().toLowerCase(Locale.ROOT));
+        }
+        if (job.location() != null) {
+            features.add("location:" + job.location().toLowerCase(Locale.ROOT));
+        }
+        if (job.type() != null) {
+            features.add("type:" + job.type().toLowerCase(Locale.ROOT));
+        }
+        return features;
+    }
+
+    private static float weight(String feature) {
+        if (feature.startsWith("skill:")) {
+            return JobSimilarityIndex.SKILL_WEIGHT;
+        }
+        if (feature.startsWith("seniority:")) {
+            return JobSimilarityIndex.SENIORITY_WEIGHT;
+        }
+        return feature.startsWith("location:") ? JobSimilarityIndex.LOCATION_WEIGHT : JobSimilarityIndex.TYPE_WEIGHT;
+    }
+
+    private static JobDocument randomJob(long id, Random random) {
+        List<String> skills = new ArrayList<>();
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            skills.add(SKILLS[random.nextInt(SKILLS.length)]);
+        }
+        return job(id, skills, SENIORITIES[random.nextInt(SENIORITIES.length)],
+            LOCATIONS[random.nextInt(LOCATIONS.length)], TYPES[random.nextInt(TYPES.length)]);
+    }
+
+    private static JobDocument job(Long id, List<String> skills, String seniority, String location, String type) {
+        return new JobDocument(id, "Engineer", null, null, location, type, null, null, null, null, null, null,
+            skills, "Published", null, 0, 0, seniority, null, false, null, "employer", null, null);
+    }
+}
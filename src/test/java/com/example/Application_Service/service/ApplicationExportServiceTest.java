@@ -0,0 +1,78 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.service.ApplicationExportService.Column;
+import com.example.Application_Service.service.ApplicationExportService.ExportSpec;
+import com.example.Application_Service.service.ApplicationExportService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exact bytes of an export, fed from canned rows instead of a database.
+ */
+class ApplicationExportServiceTest {
+
+    private static final List<Column> COLUMNS = List.of(Column.ID, Column.APPLICANT_NAME);
+
+    @Test
+    void ndjsonHasOneObjectPerLine() throws Exception {
+        String body = export(Format.NDJSON, new String[][] {{"0", "Ann"}, {"1", null}});
+
+        assertEquals("{\"id\":\"0\",\"applicantName\":\"Ann\"}\n{\"id\":\"1\",\"applicantName\":null}\n", body);
+    }
+
+    @Test
+    void csvQuotesAndNeutralizesFormulas() throws Exception {
+        String body = export(Format.CSV, new String[][] {{"0", "Doe, \"J\""}, {"1", "=SUM(A1)"}, {"2", null}});
+
+        assertEquals("id,applicantName\r\n0,\"Doe, \"\"J\"\"\"\r\n1,'=SUM(A1)\r\n2,\r\n", body);
+    }
+
+    private static String export(Format format, String[][] rows) throws Exception {
+        ApplicationExportService service = new ApplicationExportService(new RowsTemplate(rows), null, 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(rows.length, service.write(new ExportSpec(1L, format, List.of(), COLUMNS), out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Hands the rows to the callback one by one, as the cursor would
+     */
+    private static final class RowsTemplate extends JdbcTemplate {
+
+        private final String[][] rows;
+
+        RowsTemplate(String[][] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void query(PreparedStatementCreator psc, RowCallbackHandler rch) {
+            int[] current = {-1};
+            ResultSet rs = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getString")) {
+                        return rows[current[0]][(Integer) args[0] - 1];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+            try {
+                for (current[0] = 0; current[0] < rows.length; current[0]++) {
+                    rch.processRow(rs);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.Application_Service.service;
+
+import com.example.Application_Service.dto.ApplicationEventData;
+import com.example.Application_Service.dto.response.ApplicationStatusEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Last-Event-ID replay across nodes that received a user's events from two partitions in different orders.
+ */
+class ApplicationStatusStreamTest {
+
+    private static final String USER = "seeker-1";
+
+    @Test
+    void reconnectElsewhereReplaysEverythingPastTheClientsPosition() {
+        RecordingStream nodeA = stream(32);
+        RecordingStream nodeB = stream(32);
+        RecordingEmitter onA = nodeA.open(null);
+        nodeB.open(null);
+
+        // a* on partition 0, b* on partition 1; the nodes see them interleaved differently
+        nodeA.publish(0, 10, event("a0"));
+        nodeA.publish(1, 20, event("b0"));
+        nodeA.publish(0, 11, event("a1"));
+        nodeB.publish(1, 20, event("b0"));
+        nodeB.publish(0, 10, event("a0"));
+        nodeB.publish(1, 21, event("b1"));
+        nodeB.publish(0, 11, event("a1"));
+        nodeA.publish(1, 21, event("b1"));
+
+        // The client read up to a1 on A, then lost the connection and reconnected to B
+        assertEquals(List.of("a0", "b0", "a1", "b1"), onA.applications);
+        String lastEventId = onA.ids.get(2);
+        assertEquals("0-11.1-20", lastEventId);
+
+        RecordingEmitter onB = nodeB.open(lastEventId);
+
+        assertEquals(List.of("b1"), onB.applications);
+        assertEquals(List.of("0-11.1-21"), onB.ids);
+    }
+
+    @Test
+    void reconnectWithTheOtherNodesOrdering() {
+        RecordingStream nodeA = stream(32);
+        RecordingStream nodeB = stream(32);
+        nodeA.open(null);
+        RecordingEmitter onB = nodeB.open(null);
+
+        nodeA.publish(0, 10, event("a0"));
+        nodeA.publish(0, 11, event("a1"));
+        nodeA.publish(1, 20, event("b0"));
+        nodeB.publish(1, 20, event("b0"));
+        nodeB.publish(0, 10, event("a0"));
+
+        // B's last id names a0 and b0; A got a1 before b0, so a1 is still owed
+        RecordingEmitter onA = nodeA.open(onB.ids.get(1));
+
+        assertEquals(List.of("a1"), onA.applications);
+    }
+
+    @Test
+    void resyncWhenThePositionIsNoLongerBuffered() {
+        RecordingStream node = stream(2);
+        RecordingEmitter first = node.open(null);
+
+        node.publish(0, 10, event("a0"));
+        node.publish(0, 11, event("a1"));
+        node.publish(0, 12, event("a2"));
+        node.publish(0, 13, event("a3"));
+
+        RecordingEmitter reconnected = node.open(first.ids.get(0));
+        RecordingEmitter unknown = node.open("not-an-id");
+
+        assertEquals(List.of(ApplicationStatusStream.RESYNC_EVENT), reconnected.names);
+        assertEquals(List.of(ApplicationStatusStream.RESYNC_EVENT), unknown.names);
+    }
+
+    @Test
+    void redeliveredRecordIsNotSentTwice() {
+        RecordingStream node = stream(32);
+        RecordingEmitter emitter = node.open(null);
+
+        node.publish(0, 10, event("a0"));
+        node.publish(0, 11, event("a1"));
+        node.publish(0, 11, event("a1"));
+
+        assertEquals(List.of("a0", "a1"), emitter.applications);
+    }
+
+    private static RecordingStream stream(int bufferSize) {
+        RecordingStream stream = new RecordingStream();
+        ReflectionTestUtils.setField(stream, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(stream, "maxConnectionsPerUser", 5);
+        ReflectionTestUtils.setField(stream, "replayBufferSize", bufferSize);
+        ReflectionTestUtils.setField(stream, "replayRetentionMs", 600_000L);
+        return stream;
+    }
+
+    private static ApplicationEventData event(String applicationId) {
+        ApplicationEventData event = new ApplicationEventData();
+        event.setEventType("APPLICATION_STATUS_UPDATED");
+        event.setUserId(USER);
+        event.setApplicationId(applicationId);
+        return event;
+    }
+
+    private static final class RecordingStream extends ApplicationStatusStream {
+
+        private RecordingEmitter next;
+
+        RecordingEmitter open(String lastEventId) {
+            next = new RecordingEmitter();
+            subscribe(USER, lastEventId);
+            return next;
+        }
+
+        @Override
+        SseEmitter newEmitter() {
+            return next;
+        }
+    }
+
+    /**
+     * Keeps the id, name and application of every event sent to it
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(.*)$", Pattern.MULTILINE);
+        private static final Pattern NAME = Pattern.compile("^event:(.*)$", Pattern.MULTILINE);
+
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> applications = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                } else if (part.getData() instanceof ApplicationStatusEvent event) {
+                    applications.add(event.getApplicationId());
+                }
+            }
+            Matcher id = ID.matcher(text);
+            if (id.find()) {
+                ids.add(id.group(1));
+            }
+            Matcher name = NAME.matcher(text);
+            if (name.find()) {
+                names.add(name.group(1));
+            }
+        }
+    }
+}
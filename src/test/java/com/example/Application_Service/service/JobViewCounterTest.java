@@ -0,0 +1,95 @@
+package com.example.Application_Service.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Flushed views and the counters kept afterwards, against a recording JdbcTemplate.
+ */
+class JobViewCounterTest {
+
+    private final RecordingJdbc jdbc = new RecordingJdbc();
+    private final JobViewCounter counter = new JobViewCounter(jdbc, new DirectTransactionTemplate());
+
+    @Test
+    void idleCounterIsDroppedAndLaterViewsStillCount() {
+        ReflectionTestUtils.setField(counter, "recordedRetentionMs", 60_000L);
+        counter.recordView(1L);
+        counter.recordView(1L);
+        counter.recordView(2L);
+
+        counter.flush();
+        assertEquals(List.of("1+2", "2+1"), jdbc.flushed);
+        assertEquals(2, counter.metrics().get("pendingJobs"));
+
+        // Nothing to flush for a whole interval: the counters go
+        counter.flush();
+        assertEquals(0, counter.metrics().get("pendingJobs"));
+
+        counter.recordView(1L);
+        counter.flush();
+        assertEquals(List.of("1+2", "2+1", "1+1"), jdbc.flushed);
+        assertEquals(3L, counter.recordedViews(1L));
+    }
+
+    @Test
+    void failedFlushKeepsTheViews() {
+        ReflectionTestUtils.setField(counter, "recordedRetentionMs", 60_000L);
+        counter.recordView(1L);
+        jdbc.failing = true;
+
+        counter.flush();
+        assertEquals(1L, counter.pendingViews(1L));
+
+        jdbc.failing = false;
+        counter.flush();
+        assertEquals(List.of("1+1"), jdbc.flushed);
+        assertEquals(0L, counter.pendingViews(1L));
+    }
+
+    @Test
+    void recordedCounterExpiresOnceItStopsMoving() {
+        ReflectionTestUtils.setField(counter, "recordedRetentionMs", -1L);
+        counter.recordView(1L);
+
+        // First flush notes the count, the next one finds it unchanged past the retention
+        counter.flush();
+        assertEquals(1, counter.metrics().get("recordedJobs"));
+        counter.flush();
+        assertEquals(0, counter.metrics().get("recordedJobs"));
+        assertEquals(0L, counter.recordedViews(1L));
+    }
+
+    private static final class RecordingJdbc extends JdbcTemplate {
+
+        private final List<String> flushed = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (failing) {
+                throw new IllegalStateException("database unavailable");
+            }
+            for (Object[] row : batchArgs) {
+                flushed.add(row[1] + "+" + row[0]);
+            }
+            return new int[batchArgs.size()];
+        }
+    }
+
+    private static final class DirectTransactionTemplate extends TransactionTemplate {
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            return action.doInTransaction(null);
+        }
+    }
+}